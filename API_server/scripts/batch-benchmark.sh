@@ -0,0 +1,89 @@
+#!/bin/bash
+# Compare sequential API calls with the same calls sent as one batch.
+# Mirrors a typical agent turn: the schedule for three date ranges plus a
+# health check. Each sequential call is a separate curl process, so it pays
+# for its own TLS handshake and JWT validation, as separate tool calls do.
+#
+# Usage: ACCESS_TOKEN=<jwt> ./batch-benchmark.sh [runs]
+#
+# Environment:
+#   ACCESS_TOKEN  bearer token with the schedule-user role (required)
+#   BASE_URL      API base URL (default https://localhost:9443)
+
+set -euo pipefail
+
+RUNS="${1:-20}"
+BASE_URL="${BASE_URL:-https://localhost:9443}"
+
+if [ -z "${ACCESS_TOKEN:-}" ]; then
+  echo "ACCESS_TOKEN must be set to a valid JWT" >&2
+  exit 1
+fi
+
+TODAY=$(date +%F)
+TOMORROW=$(date -d "+1 day" +%F)
+WEEK_END=$(date -d "+7 days" +%F)
+
+PATHS=(
+  "/api/v1/schedule?from=$TODAY&to=$TODAY"
+  "/api/v1/schedule?from=$TOMORROW&to=$TOMORROW"
+  "/api/v1/schedule?from=$TODAY&to=$WEEK_END"
+  "/api/v1/hello"
+)
+
+BATCH_BODY=$(cat <<JSON
+{
+  "operations": [
+    {"id": "today", "method": "GET", "path": "${PATHS[0]}"},
+    {"id": "tomorrow", "method": "GET", "path": "${PATHS[1]}"},
+    {"id": "week", "method": "GET", "path": "${PATHS[2]}"},
+    {"id": "health", "method": "GET", "path": "${PATHS[3]}"}
+  ]
+}
+JSON
+)
+
+now_ms() {
+  date +%s%3N
+}
+
+sequential() {
+  for path in "${PATHS[@]}"; do
+    curl -skf -o /dev/null -H "Authorization: Bearer $ACCESS_TOKEN" "$BASE_URL$path"
+  done
+}
+
+batched() {
+  curl -skf -o /dev/null -X POST "$BASE_URL/api/v1/batch" \
+    -H "Authorization: Bearer $ACCESS_TOKEN" \
+    -H "Content-Type: application/json" \
+    -d "$BATCH_BODY"
+}
+
+# Time RUNS executions of a function and print the average in ms
+measure() {
+  local fn="$1"
+  local total=0
+  for _ in $(seq 1 "$RUNS"); do
+    local start
+    start=$(now_ms)
+    "$fn"
+    total=$(( total + $(now_ms) - start ))
+  done
+  awk -v t="$total" -v n="$RUNS" 'BEGIN { printf "%.1f", t / n }'
+}
+
+echo "Warming up..."
+sequential
+batched
+
+echo "Benchmarking $RUNS runs of ${#PATHS[@]} operations against $BASE_URL..."
+SEQUENTIAL=$(measure sequential)
+BATCHED=$(measure batched)
+
+echo ""
+echo "sequential  ${SEQUENTIAL} ms per turn"
+echo "batched     ${BATCHED} ms per turn"
+awk -v s="$SEQUENTIAL" -v b="$BATCHED" 'BEGIN { if (b > 0) printf "speedup     %.2fx\n", s / b }'
+
+# Made with Bob
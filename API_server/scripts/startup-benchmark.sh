@@ -0,0 +1,112 @@
+#!/bin/bash
+# Compare cold start and InstantOn restore of the API server container.
+# For each image, starts a container, polls until the first request succeeds
+# and reports the time to first response and the latency of that request.
+#
+# Usage: ./startup-benchmark.sh [runs]
+#
+# Environment:
+#   CONTAINER_ENGINE  podman (default) or docker
+#   COLD_IMAGE        image built without InstantOn
+#   INSTANTON_IMAGE   image built with --build-arg INSTANTON=true
+#   ACCESS_TOKEN      optional bearer token, adds a /api/v1/schedule request
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-5}"
+ENGINE="${CONTAINER_ENGINE:-podman}"
+COLD_IMAGE="${COLD_IMAGE:-authentication-test-api:1.0.0}"
+INSTANTON_IMAGE="${INSTANTON_IMAGE:-authentication-test-api:instanton}"
+PORT="${PORT:-19080}"
+NAME="auth-api-startup-bench"
+
+# Restore needs the same capabilities that were used to take the checkpoint
+RESTORE_OPTS=(--cap-add=CHECKPOINT_RESTORE --cap-add=SETPCAP --security-opt seccomp=unconfined)
+
+now_ms() {
+  date +%s%3N
+}
+
+cleanup() {
+  "$ENGINE" rm -f "$NAME" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+# Run one container and print "<time to first response ms> <first request ms> [<schedule ms>]"
+measure() {
+  local image="$1"
+  shift
+
+  cleanup
+  local start
+  start=$(now_ms)
+  "$ENGINE" run -d --name "$NAME" -p "$PORT:9080" "$@" "$image" >/dev/null
+
+  local latency=""
+  for _ in $(seq 1 1200); do
+    if latency=$(curl -sf -o /dev/null -w '%{time_total}' "http://localhost:$PORT/api/v1/hello" 2>/dev/null); then
+      break
+    fi
+    latency=""
+    sleep 0.05
+  done
+
+  if [ -z "$latency" ]; then
+    echo "Server in $image did not respond within 60s" >&2
+    "$ENGINE" logs --tail 50 "$NAME" >&2
+    exit 1
+  fi
+
+  local ready
+  ready=$(( $(now_ms) - start ))
+  local result="$ready $(awk -v t="$latency" 'BEGIN { printf "%.1f", t * 1000 }')"
+
+  if [ -n "${ACCESS_TOKEN:-}" ]; then
+    local schedule
+    schedule=$(curl -sf -o /dev/null -w '%{time_total}' \
+      -H "Authorization: Bearer $ACCESS_TOKEN" \
+      "http://localhost:$PORT/api/v1/schedule")
+    result="$result $(awk -v t="$schedule" 'BEGIN { printf "%.1f", t * 1000 }')"
+  fi
+
+  echo "$result"
+}
+
+# Print the average of each column read from stdin
+average() {
+  awk '{ for (i = 1; i <= NF; i++) sum[i] += $i; n = NF } END {
+    for (i = 1; i <= n; i++) printf "%s%.1f", (i > 1 ? " " : ""), sum[i] / NR; printf "\n"
+  }'
+}
+
+run_series() {
+  local label="$1"
+  shift
+  local results=""
+  for run in $(seq 1 "$RUNS"); do
+    local line
+    line=$(measure "$@")
+    echo "  $label run $run: $line" >&2
+    results+="$line"$'\n'
+  done
+  printf "%s" "$results" | average
+}
+
+echo "Benchmarking $RUNS runs per image with $ENGINE..."
+echo ""
+
+COLD=$(run_series "cold" "$COLD_IMAGE")
+RESTORED=$(run_series "restored" "$INSTANTON_IMAGE" "${RESTORE_OPTS[@]}")
+
+echo ""
+HEADER="mode        ready_ms  first_hello_ms"
+if [ -n "${ACCESS_TOKEN:-}" ]; then
+  HEADER="$HEADER  first_schedule_ms"
+fi
+echo "$HEADER"
+printf "cold        %s\n" "$COLD" | awk '{ printf "%-11s %8s  %14s  %s\n", $1, $2, $3, $4 }'
+printf "restored    %s\n" "$RESTORED" | awk '{ printf "%-11s %8s  %14s  %s\n", $1, $2, $3, $4 }'
+
+# Made with Bob
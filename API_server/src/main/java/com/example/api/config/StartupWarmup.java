@@ -0,0 +1,108 @@
+package com.example.api.config;
+
+import java.time.LocalDate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.microprofile.config.Config;
+
+import com.example.api.model.ErrorResponse;
+import com.example.api.model.Schedule;
+import com.example.api.resource.HelloResource;
+import com.example.api.service.ScheduleGenerator;
+import com.example.api.service.ScheduleService;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Initialized;
+import jakarta.enterprise.context.control.RequestContextController;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Exercises the hot request paths once the application has started so that
+ * an InstantOn checkpoint (checkpoint.sh afterAppStart) captures warmed-up
+ * CDI proxies, JSON-B mappings and JIT state.
+ *
+ * Disabled by default; the Containerfile enables it only for the checkpoint
+ * build step via WARMUP_ENABLED. Nothing that depends on restore-time
+ * configuration (JWKS keys, issuer, CORS origins, schedule generator
+ * settings) is touched here, so those values are still resolved from the
+ * environment when the image is restored.
+ */
+@ApplicationScoped
+public class StartupWarmup {
+
+    private static final Logger LOGGER = Logger.getLogger(StartupWarmup.class.getName());
+
+    private static final String WARMUP_USER = "warmup-user";
+
+    @Inject
+    private Config config;
+
+    @Inject
+    private Instance<HelloResource> helloResource;
+
+    @Inject
+    private RequestContextController requestContextController;
+
+    /**
+     * Run the warm-up when the application scope is initialized.
+     * The flags are looked up here rather than injected, because they differ
+     * between the checkpoint and restore and InstantOn warns about injected
+     * values that change on restore.
+     *
+     * @param event the application scope initialization event
+     */
+    public void onStartup(@Observes @Initialized(ApplicationScoped.class) Object event) {
+        if (!config.getOptionalValue("warmup.enabled", Boolean.class).orElse(false)) {
+            return;
+        }
+        int iterations = config.getOptionalValue("warmup.iterations", Integer.class).orElse(50);
+
+        LOGGER.log(Level.INFO, "Running startup warm-up with {0} iterations", iterations);
+        long start = System.nanoTime();
+
+        // Separate generator so ScheduleService reads its settings after restore
+        ScheduleGenerator generator = new ScheduleGenerator(
+            0L, LocalDate.now(), 8, 5, 10, ScheduleService.DEFAULT_DESCRIPTIONS);
+
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            for (int i = 0; i < iterations; i++) {
+                Schedule schedule = generator.generate(WARMUP_USER + i);
+                jsonb.toJson(schedule);
+                jsonb.fromJson(jsonb.toJson(schedule), Schedule.class);
+
+                jsonb.toJson(invokeHello());
+                jsonb.toJson(new ErrorResponse(
+                    "UNAUTHORIZED",
+                    "Authentication required",
+                    "2026-01-01T00:00:00Z",
+                    "/api/v1/schedule"
+                ));
+            }
+        } catch (Exception e) {
+            // A failed warm-up only costs first-request latency, never startup
+            LOGGER.log(Level.WARNING, "Startup warm-up failed", e);
+            return;
+        }
+
+        LOGGER.log(Level.INFO, "Startup warm-up completed in {0} ms",
+            (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private Object invokeHello() {
+        requestContextController.activate();
+        try {
+            Response response = helloResource.get().hello();
+            return response.getEntity();
+        } finally {
+            requestContextController.deactivate();
+        }
+    }
+}
+
+// Made with Bob
@@ -3,6 +3,7 @@ package com.example.api.exception;
 import java.time.Instant;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 import com.example.api.model.ErrorResponse;
 
@@ -24,12 +25,15 @@ public class GlobalExceptionMapper implements ExceptionMapper<Exception> {
 
     private static final Logger LOGGER = Logger.getLogger(GlobalExceptionMapper.class.getName());
 
+    // Calendar feed URLs carry a secret token that must not reach logs or response bodies
+    private static final Pattern FEED_TOKEN = Pattern.compile("(calendar/feed/)[^/]+?(\\.ics)?(?=/|$)");
+
     @Context
     private UriInfo uriInfo;
 
     @Override
     public Response toResponse(Exception exception) {
-        String path = uriInfo != null ? uriInfo.getPath() : null;
+        String path = uriInfo != null ? redact(uriInfo.getPath()) : null;
         String timestamp = Instant.now().toString();
 
         // Handle authentication errors (401)
@@ -114,6 +118,13 @@ public class GlobalExceptionMapper implements ExceptionMapper<Exception> {
             .entity(errorResponse)
             .build();
     }
+
+    /**
+     * Replace secrets in a request path with placeholders.
+     */
+    static String redact(String path) {
+        return path != null ? FEED_TOKEN.matcher(path).replaceAll("$1{token}$2") : null;
+    }
 }
 
 // Made with Bob
@@ -0,0 +1,24 @@
+package com.example.api.exception;
+
+import java.util.List;
+
+/**
+ * Thrown when one or more task IDs do not exist on the user's board.
+ */
+public class TaskNotFoundException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> ids;
+
+    public TaskNotFoundException(List<String> ids) {
+        super("Task not found: " + String.join(", ", ids));
+        this.ids = List.copyOf(ids);
+    }
+
+    public List<String> getIds() {
+        return ids;
+    }
+}
+
+// Made with Bob
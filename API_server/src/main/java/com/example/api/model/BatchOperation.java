@@ -0,0 +1,71 @@
+package com.example.api.model;
+
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+import jakarta.json.JsonValue;
+
+/**
+ * A single sub-operation of a batch request.
+ */
+@Schema(description = "Batch sub-operation")
+public class BatchOperation {
+
+    @Schema(description = "Client-chosen identifier echoed in the result", example = "today")
+    private String id;
+
+    @Schema(description = "HTTP method", example = "GET", required = true,
+        enumeration = {"GET", "POST", "PUT", "DELETE"})
+    private String method;
+
+    @Schema(description = "API path including any query string", example = "/api/v1/schedule?from=2026-01-28&to=2026-01-28",
+        required = true)
+    private String path;
+
+    @Schema(description = "Request body for POST and PUT operations", type = SchemaType.OBJECT)
+    private JsonValue body;
+
+    public BatchOperation() {
+    }
+
+    public BatchOperation(String id, String method, String path, JsonValue body) {
+        this.id = id;
+        this.method = method;
+        this.path = path;
+        this.body = body;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public JsonValue getBody() {
+        return body;
+    }
+
+    public void setBody(JsonValue body) {
+        this.body = body;
+    }
+}
+
+// Made with Bob
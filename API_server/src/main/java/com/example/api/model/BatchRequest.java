@@ -0,0 +1,32 @@
+package com.example.api.model;
+
+import java.util.List;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/**
+ * Several API operations sent in one request.
+ */
+@Schema(description = "Batch of API operations executed with a single authentication")
+public class BatchRequest {
+
+    @Schema(description = "Operations in execution order", required = true)
+    private List<BatchOperation> operations;
+
+    public BatchRequest() {
+    }
+
+    public BatchRequest(List<BatchOperation> operations) {
+        this.operations = operations;
+    }
+
+    public List<BatchOperation> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<BatchOperation> operations) {
+        this.operations = operations;
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,32 @@
+package com.example.api.model;
+
+import java.util.List;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/**
+ * Multi-status response to a batch request.
+ */
+@Schema(description = "Per-operation results, in the same order as the request")
+public class BatchResponse {
+
+    @Schema(description = "Operation results", required = true)
+    private List<BatchResult> results;
+
+    public BatchResponse() {
+    }
+
+    public BatchResponse(List<BatchResult> results) {
+        this.results = results;
+    }
+
+    public List<BatchResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BatchResult> results) {
+        this.results = results;
+    }
+}
+
+// Made with Bob
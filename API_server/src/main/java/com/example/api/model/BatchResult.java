@@ -0,0 +1,55 @@
+package com.example.api.model;
+
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/**
+ * Outcome of a single batch sub-operation.
+ */
+@Schema(description = "Batch sub-operation result")
+public class BatchResult {
+
+    @Schema(description = "Identifier from the matching operation", example = "today")
+    private String id;
+
+    @Schema(description = "HTTP status of the operation", example = "200", required = true)
+    private int status;
+
+    @Schema(description = "Response body of the operation, or an ErrorResponse", type = SchemaType.OBJECT)
+    private Object body;
+
+    public BatchResult() {
+    }
+
+    public BatchResult(String id, int status, Object body) {
+        this.id = id;
+        this.status = status;
+        this.body = body;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public Object getBody() {
+        return body;
+    }
+
+    public void setBody(Object body) {
+        this.body = body;
+    }
+}
+
+// Made with Bob
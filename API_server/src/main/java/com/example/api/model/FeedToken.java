@@ -0,0 +1,42 @@
+package com.example.api.model;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/**
+ * Calendar feed token for clients that cannot send bearer tokens.
+ */
+@Schema(description = "Calendar feed token and subscription URL")
+public class FeedToken {
+
+    @Schema(description = "Feed token; shown only once, store it securely", example = "q7Yx3k9V0mB2sN8wR4tL1pZ6cJ5hD0aF", required = true)
+    private String token;
+
+    @Schema(description = "Subscription URL containing the token", example = "https://localhost:9443/api/v1/calendar/feed/q7Yx3k9V0mB2sN8wR4tL1pZ6cJ5hD0aF.ics", required = true)
+    private String url;
+
+    public FeedToken() {
+    }
+
+    public FeedToken(String token, String url) {
+        this.token = token;
+        this.url = url;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,150 @@
+package com.example.api.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/**
+ * A task card on the user's Kanban board.
+ */
+@Schema(description = "Kanban task")
+public class Task {
+
+    @Schema(description = "Task identifier", example = "3f2b8c1e-9a4d-4c7b-8f7e-2d1a6b5c4e3f", readOnly = true)
+    private String id;
+
+    @Schema(description = "Task title (max 200 characters)", example = "Implement OAuth token refresh", required = true)
+    private String title;
+
+    @Schema(description = "Task description", example = "Refresh access tokens before they expire")
+    private String description;
+
+    @Schema(description = "Kanban column", example = "todo", required = true,
+        enumeration = {"todo", "in-progress", "review", "done"})
+    private String status;
+
+    @Schema(description = "Task priority", example = "medium", required = true,
+        enumeration = {"low", "medium", "high", "urgent"})
+    private String priority;
+
+    @Schema(description = "Person the task is assigned to")
+    private TaskAssignee assignee;
+
+    @Schema(description = "Due date in ISO 8601 format (YYYY-MM-DD)", example = "2026-02-15")
+    private String dueDate;
+
+    @Schema(description = "Free-form tags")
+    private List<String> tags;
+
+    @Schema(description = "Creation timestamp in ISO 8601 UTC format", example = "2026-01-27T16:47:00Z", readOnly = true)
+    private String createdAt;
+
+    @Schema(description = "Last update timestamp in ISO 8601 UTC format", example = "2026-01-27T16:47:00Z", readOnly = true)
+    private String updatedAt;
+
+    public Task() {
+    }
+
+    /**
+     * Copy constructor; the assignee and tags are copied as well.
+     *
+     * @param other the task to copy
+     */
+    public Task(Task other) {
+        this.id = other.id;
+        this.title = other.title;
+        this.description = other.description;
+        this.status = other.status;
+        this.priority = other.priority;
+        this.assignee = other.assignee != null
+            ? new TaskAssignee(other.assignee.getName(), other.assignee.getAvatar())
+            : null;
+        this.dueDate = other.dueDate;
+        this.tags = other.tags != null ? new ArrayList<>(other.tags) : null;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getPriority() {
+        return priority;
+    }
+
+    public void setPriority(String priority) {
+        this.priority = priority;
+    }
+
+    public TaskAssignee getAssignee() {
+        return assignee;
+    }
+
+    public void setAssignee(TaskAssignee assignee) {
+        this.assignee = assignee;
+    }
+
+    public String getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(String dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(String createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public String getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(String updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,42 @@
+package com.example.api.model;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/**
+ * Person a task is assigned to.
+ */
+@Schema(description = "Task assignee")
+public class TaskAssignee {
+
+    @Schema(description = "Assignee name", example = "john.doe", required = true)
+    private String name;
+
+    @Schema(description = "Avatar URL or initials", example = "JD")
+    private String avatar;
+
+    public TaskAssignee() {
+    }
+
+    public TaskAssignee(String name, String avatar) {
+        this.name = name;
+        this.avatar = avatar;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getAvatar() {
+        return avatar;
+    }
+
+    public void setAvatar(String avatar) {
+        this.avatar = avatar;
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,44 @@
+package com.example.api.model;
+
+import java.util.List;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/**
+ * A user's Kanban board, one column per task status.
+ */
+@Schema(description = "User Kanban board grouped by status column")
+public class TaskBoard {
+
+    @Schema(description = "Username from JWT token", example = "john.doe", required = true)
+    private String user;
+
+    @Schema(description = "Columns in board order (todo, in-progress, review, done)", required = true)
+    private List<TaskColumn> columns;
+
+    public TaskBoard() {
+    }
+
+    public TaskBoard(String user, List<TaskColumn> columns) {
+        this.user = user;
+        this.columns = columns;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public void setUser(String user) {
+        this.user = user;
+    }
+
+    public List<TaskColumn> getColumns() {
+        return columns;
+    }
+
+    public void setColumns(List<TaskColumn> columns) {
+        this.columns = columns;
+    }
+}
+
+// Made with Bob
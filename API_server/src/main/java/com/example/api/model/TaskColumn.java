@@ -0,0 +1,45 @@
+package com.example.api.model;
+
+import java.util.List;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/**
+ * One Kanban column with the tasks it contains.
+ */
+@Schema(description = "Kanban column with its tasks")
+public class TaskColumn {
+
+    @Schema(description = "Column status", example = "in-progress", required = true,
+        enumeration = {"todo", "in-progress", "review", "done"})
+    private String id;
+
+    @Schema(description = "Tasks in this column", required = true)
+    private List<Task> tasks;
+
+    public TaskColumn() {
+    }
+
+    public TaskColumn(String id, List<Task> tasks) {
+        this.id = id;
+        this.tasks = tasks;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public List<Task> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<Task> tasks) {
+        this.tasks = tasks;
+    }
+}
+
+// Made with Bob
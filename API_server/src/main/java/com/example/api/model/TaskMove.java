@@ -0,0 +1,43 @@
+package com.example.api.model;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/**
+ * Moves a single task to another Kanban column.
+ */
+@Schema(description = "Single card move")
+public class TaskMove {
+
+    @Schema(description = "Task identifier", example = "3f2b8c1e-9a4d-4c7b-8f7e-2d1a6b5c4e3f", required = true)
+    private String id;
+
+    @Schema(description = "Target column", example = "done", required = true,
+        enumeration = {"todo", "in-progress", "review", "done"})
+    private String status;
+
+    public TaskMove() {
+    }
+
+    public TaskMove(String id, String status) {
+        this.id = id;
+        this.status = status;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+}
+
+// Made with Bob
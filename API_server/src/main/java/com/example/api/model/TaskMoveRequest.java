@@ -0,0 +1,32 @@
+package com.example.api.model;
+
+import java.util.List;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/**
+ * Bulk card move, applied atomically.
+ */
+@Schema(description = "Bulk move of task cards between columns")
+public class TaskMoveRequest {
+
+    @Schema(description = "Moves to apply; either all are applied or none", required = true)
+    private List<TaskMove> moves;
+
+    public TaskMoveRequest() {
+    }
+
+    public TaskMoveRequest(List<TaskMove> moves) {
+        this.moves = moves;
+    }
+
+    public List<TaskMove> getMoves() {
+        return moves;
+    }
+
+    public void setMoves(List<TaskMove> moves) {
+        this.moves = moves;
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,40 @@
+package com.example.api.model;
+
+/**
+ * Task priority, using the same values as the frontend.
+ */
+public enum TaskPriority {
+
+    LOW("low"),
+    MEDIUM("medium"),
+    HIGH("high"),
+    URGENT("urgent");
+
+    private final String value;
+
+    TaskPriority(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Look up a priority by its API value.
+     *
+     * @param value the API value, e.g. "high"
+     * @return the matching priority
+     * @throws IllegalArgumentException if the value is not a known priority
+     */
+    public static TaskPriority fromValue(String value) {
+        for (TaskPriority priority : values()) {
+            if (priority.value.equals(value)) {
+                return priority;
+            }
+        }
+        throw new IllegalArgumentException("Invalid task priority: " + value);
+    }
+}
+
+// Made with Bob
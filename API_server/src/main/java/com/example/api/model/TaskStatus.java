@@ -0,0 +1,40 @@
+package com.example.api.model;
+
+/**
+ * Kanban column a task belongs to, using the same values as the frontend.
+ */
+public enum TaskStatus {
+
+    TODO("todo"),
+    IN_PROGRESS("in-progress"),
+    REVIEW("review"),
+    DONE("done");
+
+    private final String value;
+
+    TaskStatus(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Look up a status by its API value.
+     *
+     * @param value the API value, e.g. "in-progress"
+     * @return the matching status
+     * @throws IllegalArgumentException if the value is not a known status
+     */
+    public static TaskStatus fromValue(String value) {
+        for (TaskStatus status : values()) {
+            if (status.value.equals(value)) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Invalid task status: " + value);
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,156 @@
+package com.example.api.resource;
+
+import java.time.Instant;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import com.example.api.model.BatchRequest;
+import com.example.api.model.BatchResponse;
+import com.example.api.model.ErrorResponse;
+import com.example.api.service.BatchService;
+
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Batch endpoint - runs several API operations with one authentication.
+ * Requires authentication and schedule-user role.
+ */
+@Path("/api/v1/batch")
+@RequestScoped
+@Tag(name = "Batch", description = "Execute several API operations in one request")
+public class BatchResource {
+
+    private static final Logger LOGGER = Logger.getLogger(BatchResource.class.getName());
+
+    private static final int MULTI_STATUS = 207;
+
+    @Inject
+    private JsonWebToken jwt;
+
+    @Inject
+    private BatchService batchService;
+
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    @RolesAllowed("schedule-user")
+    @Operation(
+        summary = "Execute batch",
+        description = "Execute several schedule, task and health operations with a single token validation. "
+            + "Consecutive GET operations run in parallel; writes run in order. Each operation gets its own status."
+    )
+    @SecurityRequirement(name = "bearerAuth")
+    @APIResponses({
+        @APIResponse(
+            responseCode = "207",
+            description = "Batch executed; see each result's status",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = BatchResponse.class)
+            )
+        ),
+        @APIResponse(
+            responseCode = "400",
+            description = "Empty batch or batch limit exceeded",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @APIResponse(
+            responseCode = "401",
+            description = "Authentication required - missing or invalid token",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @APIResponse(
+            responseCode = "403",
+            description = "Forbidden - insufficient permissions",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @APIResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public Response executeBatch(BatchRequest request) {
+        try {
+            String username = jwt.getClaim("preferred_username");
+
+            if (username == null || username.isEmpty()) {
+                LOGGER.log(Level.WARNING, "JWT token missing preferred_username claim");
+
+                ErrorResponse errorResponse = new ErrorResponse(
+                    "UNAUTHORIZED",
+                    "Invalid token: missing username claim",
+                    Instant.now().toString(),
+                    "/api/v1/batch"
+                );
+
+                return Response.status(Response.Status.UNAUTHORIZED)
+                    .entity(errorResponse)
+                    .build();
+            }
+
+            BatchResponse response = batchService.execute(username, request != null ? request.getOperations() : null);
+
+            return Response.status(MULTI_STATUS)
+                .entity(response)
+                .build();
+
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                "BAD_REQUEST",
+                e.getMessage(),
+                Instant.now().toString(),
+                "/api/v1/batch"
+            );
+
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(errorResponse)
+                .build();
+
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error executing batch", e);
+
+            ErrorResponse errorResponse = new ErrorResponse(
+                "INTERNAL_ERROR",
+                "An unexpected error occurred",
+                Instant.now().toString(),
+                "/api/v1/batch"
+            );
+
+            return Response.status(Response.Status.INTERNAL_SERVER_ERROR)
+                .entity(errorResponse)
+                .build();
+        }
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,294 @@
+package com.example.api.resource;
+
+import java.time.Instant;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.headers.Header;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import com.example.api.model.ErrorResponse;
+import com.example.api.model.FeedToken;
+import com.example.api.service.CalendarFeedService;
+import com.example.api.service.FeedTokenService;
+
+import jakarta.annotation.security.PermitAll;
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import jakarta.ws.rs.core.UriInfo;
+
+/**
+ * iCalendar schedule feed for calendar apps.
+ * The feed is available with a bearer token, or through a revocable feed
+ * token in the URL for clients that cannot send Authorization headers.
+ * Responses carry ETag and Last-Modified so unchanged feeds return 304.
+ */
+@Path("/api/v1/calendar")
+@RequestScoped
+@Tag(name = "Calendar", description = "iCalendar schedule feed")
+public class CalendarFeedResource {
+
+    private static final Logger LOGGER = Logger.getLogger(CalendarFeedResource.class.getName());
+
+    private static final String TEXT_CALENDAR = "text/calendar";
+    private static final String PATH = "/api/v1/calendar";
+
+    @Inject
+    private JsonWebToken jwt;
+
+    @Inject
+    private CalendarFeedService calendarFeedService;
+
+    @Inject
+    private FeedTokenService feedTokenService;
+
+    @Inject
+    @ConfigProperty(name = "ical.max.age", defaultValue = "300")
+    private int maxAge;
+
+    @Context
+    private Request request;
+
+    @Context
+    private UriInfo uriInfo;
+
+    @GET
+    @Path("/feed.ics")
+    @Produces(TEXT_CALENDAR)
+    @RolesAllowed("schedule-user")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+        summary = "Get calendar feed",
+        description = "Retrieve the authenticated user's schedule as an iCalendar feed. Supports If-None-Match and If-Modified-Since."
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Calendar feed",
+            headers = {
+                @Header(name = "ETag", description = "Feed version"),
+                @Header(name = "Last-Modified", description = "Time the feed content last changed")
+            },
+            content = @Content(mediaType = TEXT_CALENDAR)
+        ),
+        @APIResponse(responseCode = "304", description = "Feed unchanged"),
+        @APIResponse(
+            responseCode = "401",
+            description = "Authentication required - missing or invalid token",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @APIResponse(
+            responseCode = "403",
+            description = "Forbidden - insufficient permissions",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public Response getFeed() {
+        String username = jwt.getClaim("preferred_username");
+
+        if (username == null || username.isEmpty()) {
+            LOGGER.log(Level.WARNING, "JWT token missing preferred_username claim");
+            return error(Response.Status.UNAUTHORIZED, "UNAUTHORIZED", "Invalid token: missing username claim",
+                PATH + "/feed.ics");
+        }
+
+        return feed(username, PATH + "/feed.ics");
+    }
+
+    @GET
+    @Path("/feed/{token}.ics")
+    @Produces(TEXT_CALENDAR)
+    @PermitAll
+    @Operation(
+        summary = "Get calendar feed by feed token",
+        description = "Retrieve a schedule as an iCalendar feed using a feed token instead of a bearer token. Supports If-None-Match and If-Modified-Since."
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Calendar feed",
+            content = @Content(mediaType = TEXT_CALENDAR)
+        ),
+        @APIResponse(responseCode = "304", description = "Feed unchanged"),
+        @APIResponse(
+            responseCode = "404",
+            description = "Unknown or revoked feed token",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public Response getFeedByToken(@PathParam("token") String token) {
+        // Never log or echo the token itself
+        String path = PATH + "/feed/{token}.ics";
+        return feedTokenService.resolve(token)
+            .map(username -> feed(username, path))
+            .orElseGet(() -> error(Response.Status.NOT_FOUND, "NOT_FOUND", "Feed not found", path));
+    }
+
+    @POST
+    @Path("/feed-token")
+    @Produces(MediaType.APPLICATION_JSON)
+    @RolesAllowed("schedule-user")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+        summary = "Issue feed token",
+        description = "Issue a new feed token for the authenticated user. Any previous token is revoked."
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Feed token issued",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = FeedToken.class)
+            )
+        ),
+        @APIResponse(
+            responseCode = "401",
+            description = "Authentication required - missing or invalid token",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public Response issueFeedToken() {
+        String username = jwt.getClaim("preferred_username");
+
+        if (username == null || username.isEmpty()) {
+            return error(Response.Status.UNAUTHORIZED, "UNAUTHORIZED", "Invalid token: missing username claim",
+                PATH + "/feed-token");
+        }
+
+        String token = feedTokenService.issue(username);
+        String url = uriInfo.getBaseUriBuilder()
+            .path(CalendarFeedResource.class)
+            .path("feed")
+            .path(token + ".ics")
+            .build()
+            .toString();
+
+        CacheControl noStore = new CacheControl();
+        noStore.setNoStore(true);
+
+        return Response.ok(new FeedToken(token, url))
+            .cacheControl(noStore)
+            .build();
+    }
+
+    @DELETE
+    @Path("/feed-token")
+    @Produces(MediaType.APPLICATION_JSON)
+    @RolesAllowed("schedule-user")
+    @SecurityRequirement(name = "bearerAuth")
+    @Operation(
+        summary = "Revoke feed token",
+        description = "Revoke the authenticated user's feed token. Calendar apps using it stop receiving updates."
+    )
+    @APIResponses({
+        @APIResponse(responseCode = "204", description = "Feed token revoked"),
+        @APIResponse(
+            responseCode = "404",
+            description = "No active feed token",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public Response revokeFeedToken() {
+        String username = jwt.getClaim("preferred_username");
+
+        if (username == null || username.isEmpty()) {
+            return error(Response.Status.UNAUTHORIZED, "UNAUTHORIZED", "Invalid token: missing username claim",
+                PATH + "/feed-token");
+        }
+
+        return feedTokenService.revoke(username)
+            ? Response.noContent().build()
+            : error(Response.Status.NOT_FOUND, "NOT_FOUND", "No active feed token", PATH + "/feed-token");
+    }
+
+    /**
+     * Build the feed response, or 304 when the client's copy is current.
+     */
+    private Response feed(String username, String path) {
+        try {
+            CalendarFeedService.Feed feed = calendarFeedService.getFeed(username);
+            EntityTag etag = new EntityTag(feed.getETag(), true);
+
+            CacheControl cacheControl = new CacheControl();
+            cacheControl.setPrivate(true);
+            cacheControl.setMaxAge(maxAge);
+
+            Response.ResponseBuilder notModified = request.evaluatePreconditions(feed.getLastModified(), etag);
+            if (notModified != null) {
+                return notModified
+                    .tag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+            }
+
+            StreamingOutput body = feed::writeTo;
+
+            LOGGER.log(Level.INFO, "Serving calendar feed with {0} events for user: {1}",
+                new Object[]{feed.getEventCount(), username});
+
+            return Response.ok(body, TEXT_CALENDAR + "; charset=utf-8")
+                .tag(etag)
+                .lastModified(feed.getLastModified())
+                .cacheControl(cacheControl)
+                .build();
+
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error generating calendar feed", e);
+            return error(Response.Status.INTERNAL_SERVER_ERROR, "INTERNAL_ERROR", "An unexpected error occurred", path);
+        }
+    }
+
+    private static Response error(Response.Status status, String code, String message, String path) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            code,
+            message,
+            Instant.now().toString(),
+            path
+        );
+
+        return Response.status(status)
+            .type(MediaType.APPLICATION_JSON)
+            .entity(errorResponse)
+            .build();
+    }
+}
+
+// Made with Bob
@@ -1,11 +1,9 @@
 package com.example.api.resource;
 
-import java.net.InetAddress;
 import java.time.Instant;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
@@ -15,6 +13,7 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
 import com.example.api.model.ErrorResponse;
 import com.example.api.model.HelloResponse;
+import com.example.api.service.HealthService;
 
 import jakarta.enterprise.context.RequestScoped;
 import jakarta.inject.Inject;
@@ -35,8 +34,7 @@ public class HelloResource {
     private static final Logger LOGGER = Logger.getLogger(HelloResource.class.getName());
 
     @Inject
-    @ConfigProperty(name = "api.version", defaultValue = "1.0.0")
-    private String apiVersion;
+    private HealthService healthService;
 
     @GET
     @Produces(MediaType.APPLICATION_JSON)
@@ -64,18 +62,10 @@ public class HelloResource {
     })
     public Response hello() {
         try {
-            String hostname = InetAddress.getLocalHost().getHostName();
-            String serverTime = Instant.now().toString();
-            
-            HelloResponse response = new HelloResponse(
-                hostname,
-                serverTime,
-                apiVersion,
-                "healthy"
-            );
+            HelloResponse response = healthService.getHealth();
 
             LOGGER.log(Level.INFO, "Health check successful - hostname: {0}, time: {1}", 
-                new Object[]{hostname, serverTime});
+                new Object[]{response.getHostname(), response.getServerTime()});
 
             return Response.ok(response).build();
 
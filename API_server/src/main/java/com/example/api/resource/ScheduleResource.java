@@ -1,6 +1,8 @@
 package com.example.api.resource;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -8,6 +10,7 @@ import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement;
@@ -23,6 +26,7 @@ import jakarta.inject.Inject;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
@@ -52,7 +56,7 @@ public class ScheduleResource {
     @RolesAllowed("schedule-user")
     @Operation(
         summary = "Get user schedule",
-        description = "Retrieve the authenticated user's schedule. Requires valid JWT token and schedule-user role."
+        description = "Retrieve the authenticated user's schedule, optionally limited to a date range. Requires valid JWT token and schedule-user role."
     )
     @SecurityRequirement(name = "bearerAuth")
     @APIResponses({
@@ -64,6 +68,14 @@ public class ScheduleResource {
                 schema = @Schema(implementation = Schedule.class)
             )
         ),
+        @APIResponse(
+            responseCode = "400",
+            description = "Invalid date, or from is after to",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
         @APIResponse(
             responseCode = "401",
             description = "Authentication required - missing or invalid token",
@@ -89,7 +101,11 @@ public class ScheduleResource {
             )
         )
     })
-    public Response getSchedule() {
+    public Response getSchedule(
+            @Parameter(description = "First date to include (YYYY-MM-DD)", example = "2026-01-28")
+            @QueryParam("from") String from,
+            @Parameter(description = "Last date to include (YYYY-MM-DD)", example = "2026-01-29")
+            @QueryParam("to") String to) {
         try {
             // Extract username from JWT token
             String username = jwt.getClaim("preferred_username");
@@ -109,15 +125,45 @@ public class ScheduleResource {
                     .build();
             }
 
+            LocalDate fromDate;
+            LocalDate toDate;
+            try {
+                fromDate = from != null ? LocalDate.parse(from) : null;
+                toDate = to != null ? LocalDate.parse(to) : null;
+            } catch (DateTimeParseException e) {
+                ErrorResponse errorResponse = new ErrorResponse(
+                    "BAD_REQUEST",
+                    "Invalid date, expected YYYY-MM-DD",
+                    Instant.now().toString(),
+                    "/api/v1/schedule"
+                );
+
+                return Response.status(Response.Status.BAD_REQUEST)
+                    .entity(errorResponse)
+                    .build();
+            }
+
             LOGGER.log(Level.INFO, "Retrieving schedule for user: {0}", username);
 
             // Generate schedule for the user
-            Schedule schedule = scheduleService.generateSchedule(username);
+            Schedule schedule = scheduleService.generateSchedule(username, fromDate, toDate);
 
             LOGGER.log(Level.INFO, "Schedule retrieved successfully for user: {0}", username);
 
             return Response.ok(schedule).build();
 
+        } catch (IllegalArgumentException e) {
+            ErrorResponse errorResponse = new ErrorResponse(
+                "BAD_REQUEST",
+                e.getMessage(),
+                Instant.now().toString(),
+                "/api/v1/schedule"
+            );
+
+            return Response.status(Response.Status.BAD_REQUEST)
+                .entity(errorResponse)
+                .build();
+
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error retrieving schedule", e);
             
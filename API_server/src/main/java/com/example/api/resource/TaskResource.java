@@ -0,0 +1,360 @@
+package com.example.api.resource;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.eclipse.microprofile.openapi.annotations.Operation;
+import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
+import org.eclipse.microprofile.openapi.annotations.media.Content;
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
+import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
+import org.eclipse.microprofile.openapi.annotations.security.SecurityRequirement;
+import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+
+import com.example.api.exception.TaskNotFoundException;
+import com.example.api.model.ErrorResponse;
+import com.example.api.model.Task;
+import com.example.api.model.TaskBoard;
+import com.example.api.model.TaskMoveRequest;
+import com.example.api.service.TaskService;
+
+import jakarta.annotation.security.RolesAllowed;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Task (Kanban) endpoint - requires authentication and schedule-user role.
+ * Each user works on their own board.
+ */
+@Path("/api/v1/tasks")
+@RequestScoped
+@Produces(MediaType.APPLICATION_JSON)
+@RolesAllowed("schedule-user")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Tasks", description = "User Kanban task management")
+@APIResponses({
+    @APIResponse(
+        responseCode = "401",
+        description = "Authentication required - missing or invalid token",
+        content = @Content(
+            mediaType = MediaType.APPLICATION_JSON,
+            schema = @Schema(implementation = ErrorResponse.class)
+        )
+    ),
+    @APIResponse(
+        responseCode = "403",
+        description = "Forbidden - insufficient permissions",
+        content = @Content(
+            mediaType = MediaType.APPLICATION_JSON,
+            schema = @Schema(implementation = ErrorResponse.class)
+        )
+    ),
+    @APIResponse(
+        responseCode = "500",
+        description = "Internal server error",
+        content = @Content(
+            mediaType = MediaType.APPLICATION_JSON,
+            schema = @Schema(implementation = ErrorResponse.class)
+        )
+    )
+})
+public class TaskResource {
+
+    private static final Logger LOGGER = Logger.getLogger(TaskResource.class.getName());
+
+    private static final String PATH = "/api/v1/tasks";
+
+    @Inject
+    private JsonWebToken jwt;
+
+    @Inject
+    private TaskService taskService;
+
+    @GET
+    @Path("/board")
+    @Operation(
+        summary = "Get Kanban board",
+        description = "Retrieve the authenticated user's tasks grouped by status column."
+    )
+    @APIResponse(
+        responseCode = "200",
+        description = "Board retrieved successfully",
+        content = @Content(
+            mediaType = MediaType.APPLICATION_JSON,
+            schema = @Schema(implementation = TaskBoard.class)
+        )
+    )
+    public Response getBoard(
+            @Parameter(description = "Only include tasks assigned to this person")
+            @QueryParam("assignee") String assignee) {
+        return handle(PATH + "/board", username -> Response.ok(taskService.getBoard(username, assignee)).build());
+    }
+
+    @GET
+    @Operation(
+        summary = "List tasks",
+        description = "List the authenticated user's tasks, optionally filtered by status, assignee and due date range."
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Tasks retrieved successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(type = SchemaType.ARRAY, implementation = Task.class)
+            )
+        ),
+        @APIResponse(
+            responseCode = "400",
+            description = "Invalid filter",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public Response listTasks(
+            @Parameter(description = "Status column", example = "in-progress")
+            @QueryParam("status") String status,
+            @Parameter(description = "Assignee name")
+            @QueryParam("assignee") String assignee,
+            @Parameter(description = "Earliest due date, inclusive (YYYY-MM-DD)")
+            @QueryParam("dueFrom") String dueFrom,
+            @Parameter(description = "Latest due date, inclusive (YYYY-MM-DD)")
+            @QueryParam("dueTo") String dueTo) {
+        return handle(PATH, username ->
+            Response.ok(taskService.findTasks(username, status, assignee, dueFrom, dueTo)).build());
+    }
+
+    @GET
+    @Path("/{id}")
+    @Operation(summary = "Get task", description = "Retrieve a single task.")
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Task retrieved successfully",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = Task.class)
+            )
+        ),
+        @APIResponse(
+            responseCode = "404",
+            description = "Task not found",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public Response getTask(@PathParam("id") String id) {
+        String path = PATH + "/" + id;
+        return handle(path, username -> taskService.getTask(username, id)
+            .map(task -> Response.ok(task).build())
+            .orElseGet(() -> notFound(path)));
+    }
+
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Operation(
+        summary = "Create task",
+        description = "Create a task. Status defaults to todo and priority to medium."
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "201",
+            description = "Task created",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = Task.class)
+            )
+        ),
+        @APIResponse(
+            responseCode = "400",
+            description = "Invalid task",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public Response createTask(Task task) {
+        return handle(PATH, username -> {
+            Task created = taskService.createTask(username, task);
+            return Response.created(URI.create(PATH + "/" + created.getId()))
+                .entity(created)
+                .build();
+        });
+    }
+
+    @PUT
+    @Path("/{id}")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Update task", description = "Replace the fields of an existing task.")
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Task updated",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = Task.class)
+            )
+        ),
+        @APIResponse(
+            responseCode = "400",
+            description = "Invalid task",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @APIResponse(
+            responseCode = "404",
+            description = "Task not found",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public Response updateTask(@PathParam("id") String id, Task task) {
+        String path = PATH + "/" + id;
+        return handle(path, username -> taskService.updateTask(username, id, task)
+            .map(updated -> Response.ok(updated).build())
+            .orElseGet(() -> notFound(path)));
+    }
+
+    @DELETE
+    @Path("/{id}")
+    @Operation(summary = "Delete task", description = "Delete a task.")
+    @APIResponses({
+        @APIResponse(responseCode = "204", description = "Task deleted"),
+        @APIResponse(
+            responseCode = "404",
+            description = "Task not found",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public Response deleteTask(@PathParam("id") String id) {
+        String path = PATH + "/" + id;
+        return handle(path, username -> taskService.deleteTask(username, id)
+            ? Response.noContent().build()
+            : notFound(path));
+    }
+
+    @POST
+    @Path("/move")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Operation(
+        summary = "Move cards",
+        description = "Move many cards between columns in one atomic batch. If any task is unknown or any status "
+            + "is invalid, no card is moved."
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "All cards moved",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(type = SchemaType.ARRAY, implementation = Task.class)
+            )
+        ),
+        @APIResponse(
+            responseCode = "400",
+            description = "Invalid or oversized batch",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        ),
+        @APIResponse(
+            responseCode = "404",
+            description = "One or more tasks not found",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_JSON,
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    public Response moveTasks(TaskMoveRequest request) {
+        return handle(PATH + "/move", username ->
+            Response.ok(taskService.moveTasks(username, request != null ? request.getMoves() : null)).build());
+    }
+
+    /**
+     * Resolve the username from the JWT and run the action, mapping service
+     * exceptions to error responses.
+     */
+    private Response handle(String path, Action action) {
+        try {
+            String username = jwt.getClaim("preferred_username");
+
+            if (username == null || username.isEmpty()) {
+                LOGGER.log(Level.WARNING, "JWT token missing preferred_username claim");
+                return error(Response.Status.UNAUTHORIZED, "UNAUTHORIZED", "Invalid token: missing username claim",
+                    path, null);
+            }
+
+            return action.apply(username);
+
+        } catch (TaskNotFoundException e) {
+            return error(Response.Status.NOT_FOUND, "NOT_FOUND", "Task not found", path,
+                Map.of("ids", e.getIds()));
+
+        } catch (IllegalArgumentException e) {
+            LOGGER.log(Level.INFO, "Invalid task request: {0}", e.getMessage());
+            return error(Response.Status.BAD_REQUEST, "BAD_REQUEST", e.getMessage(), path, null);
+
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error processing task request", e);
+            return error(Response.Status.INTERNAL_SERVER_ERROR, "INTERNAL_ERROR", "An unexpected error occurred",
+                path, null);
+        }
+    }
+
+    private static Response notFound(String path) {
+        return error(Response.Status.NOT_FOUND, "NOT_FOUND", "Task not found", path, null);
+    }
+
+    private static Response error(Response.Status status, String code, String message, String path,
+            Map<String, Object> details) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            code,
+            message,
+            Instant.now().toString(),
+            path,
+            details
+        );
+
+        return Response.status(status)
+            .entity(errorResponse)
+            .build();
+    }
+
+    @FunctionalInterface
+    private interface Action {
+        Response apply(String username);
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,393 @@
+package com.example.api.service;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.example.api.exception.TaskNotFoundException;
+import com.example.api.model.BatchOperation;
+import com.example.api.model.BatchResponse;
+import com.example.api.model.BatchResult;
+import com.example.api.model.ErrorResponse;
+import com.example.api.model.Task;
+import com.example.api.model.TaskMoveRequest;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.json.JsonValue;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbException;
+
+/**
+ * Executes batches of API operations for one already-authenticated user.
+ *
+ * Operations are dispatched straight to the services rather than through
+ * JAX-RS. Consecutive reads (GET) run in parallel on the managed executor;
+ * writes run one at a time in request order and act as barriers, so a read
+ * listed after a write sees its effect. Per-batch limits cap the number of
+ * operations, the read parallelism and the total time spent.
+ */
+@ApplicationScoped
+public class BatchService {
+
+    private static final Logger LOGGER = Logger.getLogger(BatchService.class.getName());
+
+    private static final String API_PREFIX = "/api/v1/";
+
+    @Inject
+    private ScheduleService scheduleService;
+
+    @Inject
+    private TaskService taskService;
+
+    @Inject
+    private HealthService healthService;
+
+    @Resource
+    private ManagedExecutorService executor;
+
+    @Inject
+    @ConfigProperty(name = "batch.max.operations", defaultValue = "20")
+    private int maxOperations;
+
+    @Inject
+    @ConfigProperty(name = "batch.max.parallel", defaultValue = "4")
+    private int maxParallel;
+
+    @Inject
+    @ConfigProperty(name = "batch.timeout.ms", defaultValue = "10000")
+    private long timeoutMillis;
+
+    private final Jsonb jsonb = JsonbBuilder.create();
+
+    /**
+     * Clamp the configured limits to usable values. A parallelism of zero
+     * would never make progress and a non-positive timeout would fail every
+     * operation, so both are raised to 1 with a warning.
+     */
+    @PostConstruct
+    void validateLimits() {
+        maxOperations = atLeastOne("batch.max.operations", maxOperations);
+        maxParallel = atLeastOne("batch.max.parallel", maxParallel);
+        // Cap the timeout so the deadline in nanoseconds cannot overflow
+        timeoutMillis = Math.min(atLeastOne("batch.timeout.ms", timeoutMillis), Integer.MAX_VALUE);
+    }
+
+    private static int atLeastOne(String name, int value) {
+        return (int) atLeastOne(name, (long) value);
+    }
+
+    private static long atLeastOne(String name, long value) {
+        if (value < 1) {
+            LOGGER.log(Level.WARNING, "Invalid {0}={1}, using 1", new Object[]{name, value});
+            return 1;
+        }
+        return value;
+    }
+
+    @PreDestroy
+    void close() {
+        try {
+            jsonb.close();
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "Error closing JSON-B instance", e);
+        }
+    }
+
+    /**
+     * Execute a batch.
+     *
+     * @param username   the authenticated user all operations run as
+     * @param operations the operations, in execution order
+     * @return one result per operation, in request order
+     * @throws IllegalArgumentException if the batch is empty or exceeds batch.max.operations
+     */
+    public BatchResponse execute(String username, List<BatchOperation> operations) {
+        if (operations == null || operations.isEmpty()) {
+            throw new IllegalArgumentException("At least one operation is required");
+        }
+        if (operations.size() > maxOperations) {
+            throw new IllegalArgumentException("At most " + maxOperations + " operations are allowed per batch");
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        BatchResult[] results = new BatchResult[operations.size()];
+
+        int i = 0;
+        while (i < operations.size()) {
+            if (!isRead(operations.get(i))) {
+                results[i] = System.nanoTime() < deadline
+                    ? dispatch(username, operations.get(i))
+                    : timeout(operations.get(i));
+                i++;
+                continue;
+            }
+
+            int end = i;
+            while (end < operations.size() && isRead(operations.get(end))) {
+                end++;
+            }
+            runReads(username, operations, i, end, results, deadline);
+            i = end;
+        }
+
+        LOGGER.log(Level.INFO, "Executed batch of {0} operations for user: {1}",
+            new Object[]{operations.size(), username});
+
+        return new BatchResponse(Arrays.asList(results));
+    }
+
+    /**
+     * Run operations [start, end) in parallel, at most batch.max.parallel at a time.
+     */
+    private void runReads(String username, List<BatchOperation> operations, int start, int end,
+            BatchResult[] results, long deadline) {
+        if (end - start == 1) {
+            // No point handing a single read to another thread
+            results[start] = System.nanoTime() < deadline
+                ? dispatch(username, operations.get(start))
+                : timeout(operations.get(start));
+            return;
+        }
+
+        for (int wave = start; wave < end; wave += maxParallel) {
+            if (System.nanoTime() >= deadline) {
+                // Out of time: fail the remaining reads without submitting them
+                for (int i = wave; i < end; i++) {
+                    results[i] = timeout(operations.get(i));
+                }
+                return;
+            }
+
+            int waveEnd = Math.min(end, wave + maxParallel);
+            List<CompletableFuture<BatchResult>> futures = new ArrayList<>(waveEnd - wave);
+
+            for (int i = wave; i < waveEnd; i++) {
+                BatchOperation operation = operations.get(i);
+                futures.add(executor.supplyAsync(() -> dispatch(username, operation)));
+            }
+
+            for (int i = wave; i < waveEnd; i++) {
+                CompletableFuture<BatchResult> future = futures.get(i - wave);
+                try {
+                    long remaining = Math.max(0, deadline - System.nanoTime());
+                    results[i] = future.get(remaining, TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    future.cancel(true);
+                    results[i] = timeout(operations.get(i));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    future.cancel(true);
+                    results[i] = timeout(operations.get(i));
+                } catch (ExecutionException e) {
+                    results[i] = internalError(operations.get(i), e.getCause());
+                }
+            }
+        }
+    }
+
+    private static boolean isRead(BatchOperation operation) {
+        return operation != null && "GET".equalsIgnoreCase(operation.getMethod());
+    }
+
+    /**
+     * Route one operation to the matching service call.
+     */
+    private BatchResult dispatch(String username, BatchOperation operation) {
+        if (operation == null || operation.getMethod() == null || operation.getPath() == null) {
+            return error(operation, 400, "BAD_REQUEST", "Operation requires method and path");
+        }
+
+        String id = operation.getId();
+        String method = operation.getMethod().toUpperCase();
+        String path = operation.getPath();
+        Map<String, String> query = new HashMap<>();
+
+        try {
+            // Malformed escapes in the query fail this operation only, not the batch
+            int queryStart = path.indexOf('?');
+            if (queryStart >= 0) {
+                parseQuery(path.substring(queryStart + 1), query);
+                path = path.substring(0, queryStart);
+            }
+            if (!path.startsWith(API_PREFIX)) {
+                return error(operation, 404, "NOT_FOUND", "Resource not found");
+            }
+            String[] segments = path.substring(API_PREFIX.length()).split("/");
+
+            switch (segments[0]) {
+                case "hello":
+                    if (segments.length != 1) {
+                        break;
+                    }
+                    if (!"GET".equals(method)) {
+                        return methodNotAllowed(operation);
+                    }
+                    return new BatchResult(id, 200, healthService.getHealth());
+
+                case "schedule":
+                    if (segments.length != 1) {
+                        break;
+                    }
+                    if (!"GET".equals(method)) {
+                        return methodNotAllowed(operation);
+                    }
+                    return new BatchResult(id, 200, scheduleService.generateSchedule(
+                        username, parseDate(query.get("from")), parseDate(query.get("to"))));
+
+                case "tasks":
+                    return dispatchTask(username, operation, method, segments, query);
+
+                default:
+                    break;
+            }
+            return error(operation, 404, "NOT_FOUND", "Resource not found");
+
+        } catch (TaskNotFoundException e) {
+            return error(operation, 404, "NOT_FOUND", "Task not found", Map.of("ids", e.getIds()));
+        } catch (IllegalArgumentException e) {
+            return error(operation, 400, "BAD_REQUEST", e.getMessage());
+        } catch (Exception e) {
+            return internalError(operation, e);
+        }
+    }
+
+    private BatchResult dispatchTask(String username, BatchOperation operation, String method, String[] segments,
+            Map<String, String> query) {
+        String id = operation.getId();
+
+        if (segments.length == 1) {
+            switch (method) {
+                case "GET":
+                    return new BatchResult(id, 200, taskService.findTasks(username, query.get("status"),
+                        query.get("assignee"), query.get("dueFrom"), query.get("dueTo")));
+                case "POST":
+                    return new BatchResult(id, 201, taskService.createTask(username, body(operation, Task.class)));
+                default:
+                    return methodNotAllowed(operation);
+            }
+        }
+
+        if (segments.length != 2) {
+            return error(operation, 404, "NOT_FOUND", "Resource not found");
+        }
+
+        if ("board".equals(segments[1])) {
+            return "GET".equals(method)
+                ? new BatchResult(id, 200, taskService.getBoard(username, query.get("assignee")))
+                : methodNotAllowed(operation);
+        }
+        if ("move".equals(segments[1])) {
+            if (!"POST".equals(method)) {
+                return methodNotAllowed(operation);
+            }
+            TaskMoveRequest request = body(operation, TaskMoveRequest.class);
+            return new BatchResult(id, 200, taskService.moveTasks(username, request.getMoves()));
+        }
+
+        String taskId = segments[1];
+        switch (method) {
+            case "GET":
+                return taskService.getTask(username, taskId)
+                    .map(task -> new BatchResult(id, 200, task))
+                    .orElseGet(() -> error(operation, 404, "NOT_FOUND", "Task not found"));
+            case "PUT":
+                return taskService.updateTask(username, taskId, body(operation, Task.class))
+                    .map(task -> new BatchResult(id, 200, task))
+                    .orElseGet(() -> error(operation, 404, "NOT_FOUND", "Task not found"));
+            case "DELETE":
+                return taskService.deleteTask(username, taskId)
+                    ? new BatchResult(id, 204, null)
+                    : error(operation, 404, "NOT_FOUND", "Task not found");
+            default:
+                return methodNotAllowed(operation);
+        }
+    }
+
+    private <T> T body(BatchOperation operation, Class<T> type) {
+        JsonValue body = operation.getBody();
+        if (body == null || body.getValueType() != JsonValue.ValueType.OBJECT) {
+            throw new IllegalArgumentException("Operation body must be a JSON object");
+        }
+        try {
+            return jsonb.fromJson(body.toString(), type);
+        } catch (JsonbException e) {
+            throw new IllegalArgumentException("Operation body does not match the expected fields", e);
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid date, expected YYYY-MM-DD");
+        }
+    }
+
+    private static void parseQuery(String queryString, Map<String, String> query) {
+        for (String pair : queryString.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int separator = pair.indexOf('=');
+            String name = separator >= 0 ? pair.substring(0, separator) : pair;
+            String value = separator >= 0 ? pair.substring(separator + 1) : "";
+            query.putIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+    }
+
+    private static BatchResult methodNotAllowed(BatchOperation operation) {
+        return error(operation, 405, "METHOD_NOT_ALLOWED", "Method not allowed");
+    }
+
+    private static BatchResult timeout(BatchOperation operation) {
+        return error(operation, 504, "TIMEOUT", "Batch time limit exceeded before the operation completed");
+    }
+
+    private static BatchResult internalError(BatchOperation operation, Throwable cause) {
+        LOGGER.log(Level.SEVERE, "Error executing batch operation", cause);
+        return error(operation, 500, "INTERNAL_ERROR", "An unexpected error occurred");
+    }
+
+    private static BatchResult error(BatchOperation operation, int status, String code, String message) {
+        return error(operation, status, code, message, null);
+    }
+
+    private static BatchResult error(BatchOperation operation, int status, String code, String message,
+            Map<String, Object> details) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            code,
+            message,
+            Instant.now().toString(),
+            operation != null ? operation.getPath() : null,
+            details
+        );
+        return new BatchResult(operation != null ? operation.getId() : null, status, errorResponse);
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,250 @@
+package com.example.api.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.example.api.model.ScheduleItem;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Renders users' schedules as iCalendar (RFC 5545) feeds.
+ *
+ * Each VEVENT is rendered once and cached as a text fragment keyed by a
+ * content-derived UID. When a user's schedule changes only new or changed
+ * events are rendered; unchanged fragments are reused. The feed's ETag is
+ * derived from the UIDs, so an unchanged schedule can be answered with a
+ * 304 without rendering anything.
+ */
+@ApplicationScoped
+public class CalendarFeedService {
+
+    private static final Logger LOGGER = Logger.getLogger(CalendarFeedService.class.getName());
+
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final String EVENT_DURATION = "PT30M";
+    private static final String UID_DOMAIN = "@authentication-test-api";
+
+    private static final DateTimeFormatter STAMP_FORMATTER =
+        DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    @Inject
+    private ScheduleService scheduleService;
+
+    @Inject
+    @ConfigProperty(name = "ical.cache.max.users", defaultValue = "10000")
+    private int maxCachedUsers;
+
+    // Access-ordered, so the least recently requested feed is evicted first
+    private final Map<String, Feed> feeds = Collections.synchronizedMap(
+        new LinkedHashMap<String, Feed>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Feed> eldest) {
+                return size() > maxCachedUsers;
+            }
+        });
+
+    /**
+     * Get the current feed for a user, re-rendering only events that are not
+     * already cached.
+     *
+     * @param username the user whose schedule is rendered
+     * @return the feed with its ETag and last-modified time
+     */
+    public Feed getFeed(String username) {
+        List<ScheduleItem> items = scheduleService.generateSchedule(username).getSchedule();
+
+        List<String> uids = uids(username, items);
+        long hash = 0xcbf29ce484222325L;
+        for (String uid : uids) {
+            hash = fnv(hash, uid);
+        }
+        String etag = Long.toHexString(hash);
+
+        Feed cached = feeds.get(username);
+        if (cached != null && cached.etag.equals(etag)) {
+            return cached;
+        }
+
+        Map<String, String> previous = cached != null ? cached.fragments : Collections.emptyMap();
+        Map<String, String> fragments = new HashMap<>(uids.size() * 4 / 3 + 1);
+        List<String> ordered = new ArrayList<>(uids.size());
+        String stamp = STAMP_FORMATTER.format(Instant.now());
+        int rendered = 0;
+
+        for (int i = 0; i < uids.size(); i++) {
+            String uid = uids.get(i);
+            String fragment = previous.get(uid);
+            if (fragment == null) {
+                fragment = renderEvent(uid, stamp, items.get(i));
+                rendered++;
+            }
+            fragments.put(uid, fragment);
+            ordered.add(fragment);
+        }
+
+        Feed feed = new Feed(etag, Date.from(Instant.now().truncatedTo(ChronoUnit.SECONDS)), username,
+            fragments, ordered);
+
+        feeds.put(username, feed);
+
+        LOGGER.log(Level.FINE, "Calendar feed for user {0}: {1} events rendered, {2} reused",
+            new Object[]{username, rendered, ordered.size() - rendered});
+
+        return feed;
+    }
+
+    /**
+     * Derive stable UIDs from the user and item content. Identical items on
+     * the same slot are distinguished by an occurrence counter.
+     */
+    private static List<String> uids(String username, List<ScheduleItem> items) {
+        long userHash = fnv(0xcbf29ce484222325L, username);
+        Map<Long, Integer> occurrences = new HashMap<>();
+        List<String> uids = new ArrayList<>(items.size());
+
+        for (ScheduleItem item : items) {
+            long itemHash = fnv(fnv(fnv(userHash, item.getDate()), item.getTime()), item.getDescription());
+            int occurrence = occurrences.merge(itemHash, 1, Integer::sum);
+            uids.add(Long.toHexString(itemHash) + "-" + occurrence + UID_DOMAIN);
+        }
+        return uids;
+    }
+
+    private static String renderEvent(String uid, String stamp, ScheduleItem item) {
+        StringBuilder event = new StringBuilder(256);
+        line(event, "BEGIN:VEVENT");
+        line(event, "UID:" + uid);
+        line(event, "DTSTAMP:" + stamp);
+        line(event, "DTSTART:" + item.getDate().replace("-", "") + "T" + item.getTime().replace(":", "") + "00");
+        line(event, "DURATION:" + EVENT_DURATION);
+        line(event, "SUMMARY:" + escape(item.getDescription()));
+        line(event, "END:VEVENT");
+        return event.toString();
+    }
+
+    /**
+     * Append a content line, folded at 75 octets without splitting UTF-8 sequences.
+     */
+    private static void line(StringBuilder out, String content) {
+        int octets = 0;
+        for (int i = 0; i < content.length(); ) {
+            int codePoint = content.codePointAt(i);
+            int size = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + size > MAX_LINE_OCTETS) {
+                out.append(CRLF).append(' ');
+                octets = 1;
+            }
+            out.appendCodePoint(codePoint);
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        out.append(CRLF);
+    }
+
+    private static String escape(String text) {
+        StringBuilder escaped = new StringBuilder(text.length() + 8);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> escaped.append('\\').append(c);
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> { }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static long fnv(long hash, String value) {
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        // Separator so ("ab", "c") and ("a", "bc") hash differently
+        hash ^= 0xFF;
+        hash *= 0x100000001b3L;
+        return hash;
+    }
+
+    /**
+     * A rendered feed: ETag, last-modified time and cached VEVENT fragments.
+     */
+    public static final class Feed {
+
+        private final String etag;
+        private final Date lastModified;
+        private final String username;
+        private final Map<String, String> fragments;
+        private final List<String> ordered;
+
+        private Feed(String etag, Date lastModified, String username, Map<String, String> fragments,
+                List<String> ordered) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.username = username;
+            this.fragments = fragments;
+            this.ordered = ordered;
+        }
+
+        public String getETag() {
+            return etag;
+        }
+
+        public Date getLastModified() {
+            return new Date(lastModified.getTime());
+        }
+
+        public int getEventCount() {
+            return ordered.size();
+        }
+
+        /**
+         * Stream the calendar to the given output.
+         *
+         * @param output destination stream; not closed
+         * @throws IOException if writing fails
+         */
+        public void writeTo(OutputStream output) throws IOException {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            StringBuilder header = new StringBuilder(256);
+            line(header, "BEGIN:VCALENDAR");
+            line(header, "VERSION:2.0");
+            line(header, "PRODID:-//Authentication Test API//Schedule Feed//EN");
+            line(header, "CALSCALE:GREGORIAN");
+            line(header, "METHOD:PUBLISH");
+            line(header, "X-WR-CALNAME:" + escape("Schedule - " + username));
+            writer.write(header.toString());
+
+            for (String fragment : ordered) {
+                writer.write(fragment);
+            }
+
+            writer.write("END:VCALENDAR" + CRLF);
+            writer.flush();
+        }
+    }
+}
+
+// Made with Bob
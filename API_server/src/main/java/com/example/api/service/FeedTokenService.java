@@ -0,0 +1,98 @@
+package com.example.api.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Issues and revokes calendar feed tokens.
+ * Each user has at most one active token; issuing a new one revokes the old.
+ * Only SHA-256 hashes of tokens are kept, so a memory dump does not expose
+ * usable feed URLs.
+ */
+@ApplicationScoped
+public class FeedTokenService {
+
+    private static final Logger LOGGER = Logger.getLogger(FeedTokenService.class.getName());
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final Map<String, String> usersByHash = new ConcurrentHashMap<>();
+    private final Map<String, String> hashesByUser = new ConcurrentHashMap<>();
+
+    /**
+     * Issue a new feed token for the user, revoking any previous one.
+     *
+     * @param username the token owner
+     * @return the new token
+     */
+    public String issue(String username) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        String hash = hash(token);
+
+        synchronized (this) {
+            String previous = hashesByUser.put(username, hash);
+            if (previous != null) {
+                usersByHash.remove(previous);
+            }
+            usersByHash.put(hash, username);
+        }
+
+        LOGGER.log(Level.INFO, "Issued calendar feed token for user: {0}", username);
+        return token;
+    }
+
+    /**
+     * Revoke the user's feed token.
+     *
+     * @param username the token owner
+     * @return true if a token was revoked
+     */
+    public synchronized boolean revoke(String username) {
+        String hash = hashesByUser.remove(username);
+        if (hash == null) {
+            return false;
+        }
+        usersByHash.remove(hash);
+
+        LOGGER.log(Level.INFO, "Revoked calendar feed token for user: {0}", username);
+        return true;
+    }
+
+    /**
+     * Resolve a feed token to its owner.
+     *
+     * @param token the feed token
+     * @return the owner, or empty if the token is unknown or revoked
+     */
+    public Optional<String> resolve(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(usersByHash.get(hash(token)));
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
+
+// Made with Bob
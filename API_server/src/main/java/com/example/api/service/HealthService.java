@@ -0,0 +1,42 @@
+package com.example.api.service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.example.api.model.HelloResponse;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Service for building the health check response.
+ * Shared by the hello endpoint and batched hello operations so both report
+ * the same fields.
+ */
+@ApplicationScoped
+public class HealthService {
+
+    @Inject
+    @ConfigProperty(name = "api.version", defaultValue = "1.0.0")
+    private String apiVersion;
+
+    /**
+     * Get the current server health.
+     *
+     * @return hostname, current server time, API version and status
+     * @throws UnknownHostException if the local hostname cannot be resolved
+     */
+    public HelloResponse getHealth() throws UnknownHostException {
+        return new HelloResponse(
+            InetAddress.getLocalHost().getHostName(),
+            Instant.now().toString(),
+            apiVersion,
+            "healthy"
+        );
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,206 @@
+package com.example.api.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.example.api.model.Schedule;
+import com.example.api.model.ScheduleItem;
+
+/**
+ * Deterministic schedule generator.
+ * Each user's schedule is drawn from a SplittableRandom seeded with the
+ * generator seed mixed with a hash of the username, so the same settings
+ * always produce the same schedule regardless of thread or call order.
+ *
+ * Items are handled in a packed form (one long per item) so that large
+ * synthetic datasets stay compact; see {@link #pack(int, int, int)}.
+ */
+public final class ScheduleGenerator {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    private static final int FIRST_HOUR = 8;
+    private static final int HOUR_COUNT = 11; // 08:00-18:30
+
+    private static final String[] TIMES = new String[24 * 60];
+
+    static {
+        for (int minute = 0; minute < TIMES.length; minute++) {
+            TIMES[minute] = String.format("%02d:%02d", minute / 60, minute % 60);
+        }
+    }
+
+    private final long seed;
+    private final LocalDate startDate;
+    private final int spanDays;
+    private final int minItems;
+    private final int maxItems;
+    private final String[] descriptions;
+    private final String[] dates;
+
+    /**
+     * Create a generator.
+     *
+     * @param seed         base seed shared by all users
+     * @param startDate    first date items may fall on
+     * @param spanDays     number of days items are spread over (starting at startDate)
+     * @param minItems     minimum number of items per user
+     * @param maxItems     maximum number of items per user
+     * @param descriptions description vocabulary
+     */
+    public ScheduleGenerator(long seed, LocalDate startDate, int spanDays, int minItems, int maxItems,
+            List<String> descriptions) {
+        if (startDate == null) {
+            throw new IllegalArgumentException("startDate is required");
+        }
+        if (spanDays < 1 || spanDays > 0xFFFF) {
+            throw new IllegalArgumentException("spanDays must be between 1 and 65535");
+        }
+        if (minItems < 0 || maxItems < minItems) {
+            throw new IllegalArgumentException("Item count range must satisfy 0 <= min <= max");
+        }
+        if (descriptions == null || descriptions.isEmpty() || descriptions.size() > 0xFFFF) {
+            throw new IllegalArgumentException("Between 1 and 65535 descriptions are required");
+        }
+
+        this.seed = seed;
+        this.startDate = startDate;
+        this.spanDays = spanDays;
+        this.minItems = minItems;
+        this.maxItems = maxItems;
+        this.descriptions = descriptions.toArray(new String[0]);
+        this.dates = new String[spanDays];
+        for (int day = 0; day < spanDays; day++) {
+            dates[day] = startDate.plusDays(day).format(DATE_FORMATTER);
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public int getSpanDays() {
+        return spanDays;
+    }
+
+    public int getMinItems() {
+        return minItems;
+    }
+
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    public List<String> getDescriptions() {
+        return List.of(descriptions);
+    }
+
+    /**
+     * Check whether another generator produces the same packed items for
+     * every user. The start date is not compared, because packed items hold
+     * day offsets rather than dates.
+     *
+     * @param other the generator to compare with
+     * @return true if seed, span, item count range and vocabulary all match
+     */
+    public boolean hasSameSettings(ScheduleGenerator other) {
+        return other == this
+            || (other != null
+                && seed == other.seed
+                && spanDays == other.spanDays
+                && minItems == other.minItems
+                && maxItems == other.maxItems
+                && Arrays.equals(descriptions, other.descriptions));
+    }
+
+    /**
+     * Generate the schedule for the given user.
+     *
+     * @param username the username to generate schedule for
+     * @return Schedule object containing user's schedule items, sorted by date and time
+     */
+    public Schedule generate(String username) {
+        return new Schedule(username, toItems(generatePacked(username)));
+    }
+
+    /**
+     * Generate the packed, sorted schedule items for the given user.
+     *
+     * @param username the username to generate schedule for
+     * @return packed items in date and time order
+     */
+    public long[] generatePacked(String username) {
+        SplittableRandom random = new SplittableRandom(userSeed(seed, username));
+
+        int itemCount = minItems + random.nextInt(maxItems - minItems + 1);
+        long[] items = new long[itemCount];
+
+        for (int i = 0; i < itemCount; i++) {
+            int day = random.nextInt(spanDays);
+            int hour = FIRST_HOUR + random.nextInt(HOUR_COUNT);
+            int minute = random.nextInt(2) * 30; // 0 or 30 minutes
+            int description = random.nextInt(descriptions.length);
+            items[i] = pack(day, hour * 60 + minute, description);
+        }
+
+        // Packed layout sorts by date, then time
+        Arrays.sort(items);
+        return items;
+    }
+
+    /**
+     * Expand packed items into schedule items.
+     *
+     * @param packed packed items produced by this generator's settings
+     * @return schedule items in the same order
+     */
+    public List<ScheduleItem> toItems(long[] packed) {
+        List<ScheduleItem> items = new ArrayList<>(packed.length);
+        for (long item : packed) {
+            items.add(new ScheduleItem(
+                dates[(int) (item >>> 32)],
+                TIMES[(int) (item >>> 16) & 0xFFFF],
+                descriptions[(int) item & 0xFFFF]
+            ));
+        }
+        return items;
+    }
+
+    /**
+     * Pack an item as day offset (bits 32-47), minute of day (bits 16-31)
+     * and description index (bits 0-15).
+     */
+    static long pack(int day, int minuteOfDay, int description) {
+        return ((long) day << 32) | ((long) minuteOfDay << 16) | description;
+    }
+
+    /**
+     * Derive a per-user seed from the base seed and a 64-bit FNV-1a hash of the username.
+     */
+    static long userSeed(long seed, String username) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : username.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return mix(seed ^ hash);
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
+
+// Made with Bob
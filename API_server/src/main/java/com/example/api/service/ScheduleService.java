@@ -1,29 +1,46 @@
 package com.example.api.service;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.eclipse.microprofile.config.Config;
+
 import com.example.api.model.Schedule;
 import com.example.api.model.ScheduleItem;
 
+import jakarta.annotation.Resource;
+import jakarta.enterprise.concurrent.ManagedExecutorService;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 
 /**
  * Service for generating and managing user schedules.
- * Generates random test data for demonstration purposes.
+ * Generates deterministic test data for demonstration, load and capacity testing.
+ *
+ * Generation settings and the optional synthetic dataset are read from
+ * MicroProfile Config the first time a schedule is requested (not at
+ * injection or startup time), so values supplied when an InstantOn image is
+ * restored take effect and the dataset is never part of the checkpoint.
+ *
+ * The synthetic dataset is loaded in the background. Until it is ready,
+ * schedules are generated on demand; both give the same items, because the
+ * dataset is only served while its settings match the live generator.
  */
 @ApplicationScoped
 public class ScheduleService {
 
     private static final Logger LOGGER = Logger.getLogger(ScheduleService.class.getName());
-    
-    private static final String[] DESCRIPTIONS = {
+
+    public static final List<String> DEFAULT_DESCRIPTIONS = List.of(
         "Team standup meeting",
         "Code review session",
         "Sprint planning",
@@ -32,64 +49,194 @@ public class ScheduleService {
         "Project retrospective",
         "One-on-one meeting",
         "Training session"
-    };
+    );
+
+    @Inject
+    private Config config;
+
+    @Resource
+    private ManagedExecutorService executor;
 
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE;
-    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
-    
-    private final Random random = new Random();
+    private volatile ScheduleGenerator generator;
+    private volatile boolean startDatePinned;
+    private volatile SyntheticDataset dataset;
+    private final AtomicBoolean datasetRequested = new AtomicBoolean();
 
     /**
      * Generate a schedule for the given user.
-     * Creates 5-10 random schedule items within the next 7 days during business hours (08:00-18:00).
+     * Creates between schedule.items.min and schedule.items.max items spread over
+     * schedule.span.days days during business hours (08:00-18:30). The same
+     * seed, start date and username always produce the same schedule.
      *
      * @param username the username to generate schedule for
      * @return Schedule object containing user's schedule items
      */
     public Schedule generateSchedule(String username) {
         LOGGER.log(Level.INFO, "Generating schedule for user: {0}", username);
-        
-        int itemCount = 5 + random.nextInt(6); // 5-10 items
-        List<ScheduleItem> items = new ArrayList<>();
-        
-        LocalDate today = LocalDate.now();
-        
-        for (int i = 0; i < itemCount; i++) {
-            // Random date within next 7 days
-            int daysToAdd = random.nextInt(8); // 0-7 days
-            LocalDate scheduleDate = today.plusDays(daysToAdd);
-            
-            // Random time between 08:00 and 18:00 (business hours)
-            int hour = 8 + random.nextInt(11); // 8-18
-            int minute = random.nextInt(2) * 30; // 0 or 30 minutes
-            LocalTime scheduleTime = LocalTime.of(hour, minute);
-            
-            // Random description
-            String description = DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)];
-            
-            ScheduleItem item = new ScheduleItem(
-                scheduleDate.format(DATE_FORMATTER),
-                scheduleTime.format(TIME_FORMATTER),
-                description
-            );
-            
-            items.add(item);
+
+        ScheduleGenerator current = generator();
+        SyntheticDataset data = dataset();
+
+        // Dataset items are day offsets, rendered with today's dates like everyone else's
+        long[] packed = data != null && data.getGenerator().hasSameSettings(current)
+            ? data.getItems(username)
+            : null;
+        Schedule schedule = packed != null
+            ? new Schedule(username, current.toItems(packed))
+            : current.generate(username);
+
+        LOGGER.log(Level.INFO, "Generated {0} schedule items for user: {1}",
+            new Object[]{schedule.getSchedule().size(), username});
+
+        return schedule;
+    }
+
+    /**
+     * Generate a schedule for the given user, keeping only items within a date range.
+     *
+     * @param username the username to generate schedule for
+     * @param from     first date to include, or null for no lower bound
+     * @param to       last date to include, or null for no upper bound
+     * @return Schedule object containing the user's schedule items in the range
+     * @throws IllegalArgumentException if from is after to
+     */
+    public Schedule generateSchedule(String username, LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+
+        Schedule schedule = generateSchedule(username);
+        if (from == null && to == null) {
+            return schedule;
         }
-        
-        // Sort items by date and time
-        items.sort((a, b) -> {
-            int dateCompare = a.getDate().compareTo(b.getDate());
-            if (dateCompare != 0) {
-                return dateCompare;
+
+        // ISO 8601 dates compare correctly as strings
+        String first = from != null ? from.toString() : null;
+        String last = to != null ? to.toString() : null;
+        List<ScheduleItem> items = new ArrayList<>();
+        for (ScheduleItem item : schedule.getSchedule()) {
+            if ((first == null || item.getDate().compareTo(first) >= 0)
+                    && (last == null || item.getDate().compareTo(last) <= 0)) {
+                items.add(item);
             }
-            return a.getTime().compareTo(b.getTime());
-        });
-        
-        LOGGER.log(Level.INFO, "Generated {0} schedule items for user: {1}", 
-            new Object[]{items.size(), username});
-        
+        }
         return new Schedule(username, items);
     }
+
+    /**
+     * Get the current generator, creating it on first use and again when the
+     * day changes unless schedule.start.date pins the start date.
+     */
+    private ScheduleGenerator generator() {
+        ScheduleGenerator current = generator;
+        if (current != null && (startDatePinned || current.getStartDate().equals(LocalDate.now()))) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = generator;
+            if (current == null || (!startDatePinned && !current.getStartDate().equals(LocalDate.now()))) {
+                Optional<String> startDate = config.getOptionalValue("schedule.start.date", String.class);
+                current = createGenerator(startDate.map(LocalDate::parse).orElse(LocalDate.now()));
+                startDatePinned = startDate.isPresent();
+                generator = current;
+            }
+            return current;
+        }
+    }
+
+    private ScheduleGenerator createGenerator(LocalDate startDate) {
+        ScheduleGenerator created = new ScheduleGenerator(
+            config.getOptionalValue("schedule.seed", Long.class).orElse(42L),
+            startDate,
+            config.getOptionalValue("schedule.span.days", Integer.class).orElse(8),
+            config.getOptionalValue("schedule.items.min", Integer.class).orElse(5),
+            config.getOptionalValue("schedule.items.max", Integer.class).orElse(10),
+            config.getOptionalValues("schedule.descriptions", String.class).orElse(DEFAULT_DESCRIPTIONS)
+        );
+
+        LOGGER.log(Level.INFO, "Schedule generator created - seed: {0}, start date: {1}, span: {2} days",
+            new Object[]{created.getSeed(), startDate, created.getSpanDays()});
+
+        return created;
+    }
+
+    /**
+     * Get the synthetic dataset. The first call starts loading it in the
+     * background when synthetic.enabled is set; callers do not wait for it.
+     *
+     * @return the dataset, or null if synthetic mode is off or it is not loaded yet
+     */
+    private SyntheticDataset dataset() {
+        if (datasetRequested.compareAndSet(false, true)
+                && config.getOptionalValue("synthetic.enabled", Boolean.class).orElse(false)) {
+            ScheduleGenerator current = generator();
+            try {
+                executor.runAsync(() -> {
+                    try {
+                        dataset = loadSyntheticDataset(current);
+                    } catch (RuntimeException e) {
+                        LOGGER.log(Level.SEVERE, "Failed to load synthetic dataset, generating schedules on demand", e);
+                    }
+                });
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.SEVERE, "Failed to start loading synthetic dataset, generating schedules on demand", e);
+            }
+        }
+        return dataset;
+    }
+
+    /**
+     * Load the synthetic dataset from synthetic.file if it exists and was
+     * written with the current settings, otherwise generate it. When
+     * synthetic.file is set and was missing or unreadable, the generated
+     * dataset is written there for later runs.
+     */
+    private SyntheticDataset loadSyntheticDataset(ScheduleGenerator current) {
+        Optional<Path> file = config.getOptionalValue("synthetic.file", String.class).map(Paths::get);
+        long start = System.nanoTime();
+
+        SyntheticDataset loaded = null;
+        boolean writeFile = file.isPresent();
+
+        if (file.isPresent() && Files.exists(file.get())) {
+            try {
+                loaded = SyntheticDataset.readFrom(file.get());
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, "Synthetic dataset " + file.get() + " is unreadable, regenerating it", e);
+            }
+
+            if (loaded != null && loaded.getGenerator().hasSameSettings(current)) {
+                LOGGER.log(Level.INFO, "Loaded synthetic dataset from {0}", file.get());
+            } else if (loaded != null) {
+                LOGGER.log(Level.WARNING, "Ignoring synthetic dataset {0}: it was written with different "
+                    + "schedule settings (seed, span, item count or descriptions)", file.get());
+                loaded = null;
+                writeFile = false;
+            }
+        }
+
+        if (loaded == null) {
+            loaded = SyntheticDataset.generate(
+                current,
+                config.getOptionalValue("synthetic.users", Integer.class).orElse(100_000),
+                config.getOptionalValue("synthetic.user.prefix", String.class).orElse("user-")
+            );
+            if (writeFile) {
+                try {
+                    loaded.writeTo(file.get());
+                    LOGGER.log(Level.INFO, "Wrote synthetic dataset to {0}", file.get());
+                } catch (IOException e) {
+                    LOGGER.log(Level.WARNING, "Failed to write synthetic dataset to " + file.get(), e);
+                }
+            }
+        }
+
+        LOGGER.log(Level.INFO, "Synthetic dataset ready - {0} users, {1} items in {2} ms",
+            new Object[]{loaded.getUserCount(), loaded.getItemCount(), (System.nanoTime() - start) / 1_000_000});
+
+        return loaded;
+    }
 }
 
 // Made with Bob
@@ -0,0 +1,196 @@
+package com.example.api.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Pre-generated schedules for a fixed population of synthetic users,
+ * used for load and capacity testing.
+ *
+ * Users are named prefix + index. Generation runs in parallel across all
+ * cores; because every user's schedule depends only on the generator
+ * settings and the username, the result is identical run to run.
+ *
+ * Items are stored as day offsets rather than dates, so they can be rendered
+ * by any generator with the same settings (see
+ * {@link ScheduleGenerator#hasSameSettings(ScheduleGenerator)}), whatever its
+ * start date.
+ */
+public final class SyntheticDataset {
+
+    private static final int MAGIC = 0x53434844; // "SCHD"
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final ScheduleGenerator generator;
+    private final String[] usernames;
+    private final long[][] items;
+    private final Map<String, Integer> index;
+
+    private SyntheticDataset(ScheduleGenerator generator, String[] usernames, long[][] items) {
+        this.generator = generator;
+        this.usernames = usernames;
+        this.items = items;
+        this.index = new HashMap<>(usernames.length * 4 / 3 + 1);
+        for (int i = 0; i < usernames.length; i++) {
+            index.put(usernames[i], i);
+        }
+    }
+
+    /**
+     * Generate schedules for userCount synthetic users in parallel.
+     *
+     * @param generator  generator settings
+     * @param userCount  number of users
+     * @param userPrefix username prefix
+     * @return the generated dataset
+     */
+    public static SyntheticDataset generate(ScheduleGenerator generator, int userCount, String userPrefix) {
+        if (userCount < 0) {
+            throw new IllegalArgumentException("userCount must not be negative");
+        }
+
+        String[] usernames = new String[userCount];
+        long[][] items = new long[userCount][];
+
+        IntStream.range(0, userCount).parallel().forEach(i -> {
+            usernames[i] = userPrefix + i;
+            items[i] = generator.generatePacked(usernames[i]);
+        });
+
+        return new SyntheticDataset(generator, usernames, items);
+    }
+
+    /**
+     * Load a dataset previously written with {@link #writeTo(Path)}.
+     *
+     * @param file dataset file
+     * @return the loaded dataset
+     * @throws IOException if the file cannot be read or is not a dataset file
+     */
+    public static SyntheticDataset readFrom(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a synthetic schedule dataset: " + file);
+            }
+
+            long seed = in.readLong();
+            LocalDate startDate = LocalDate.ofEpochDay(in.readLong());
+            int spanDays = in.readInt();
+            int minItems = in.readInt();
+            int maxItems = in.readInt();
+
+            int descriptionCount = in.readInt();
+            List<String> descriptions = new ArrayList<>(descriptionCount);
+            for (int i = 0; i < descriptionCount; i++) {
+                descriptions.add(in.readUTF());
+            }
+
+            ScheduleGenerator generator = new ScheduleGenerator(
+                seed, startDate, spanDays, minItems, maxItems, descriptions);
+
+            int userCount = in.readInt();
+            String[] usernames = new String[userCount];
+            long[][] items = new long[userCount][];
+            for (int u = 0; u < userCount; u++) {
+                usernames[u] = in.readUTF();
+                long[] userItems = new long[in.readInt()];
+                for (int i = 0; i < userItems.length; i++) {
+                    userItems[i] = in.readLong();
+                }
+                items[u] = userItems;
+            }
+
+            return new SyntheticDataset(generator, usernames, items);
+        }
+    }
+
+    /**
+     * Write the dataset, including its generator settings, to a file. The
+     * data is written to a temporary file in the same directory and then
+     * moved into place, so an interrupted write never leaves a truncated file.
+     *
+     * @param file destination file
+     * @throws IOException if the file cannot be written
+     */
+    public void writeTo(Path file) throws IOException {
+        Path target = file.toAbsolutePath();
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            write(temp);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void write(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(generator.getSeed());
+            out.writeLong(generator.getStartDate().toEpochDay());
+            out.writeInt(generator.getSpanDays());
+            out.writeInt(generator.getMinItems());
+            out.writeInt(generator.getMaxItems());
+
+            List<String> descriptions = generator.getDescriptions();
+            out.writeInt(descriptions.size());
+            for (String description : descriptions) {
+                out.writeUTF(description);
+            }
+
+            out.writeInt(usernames.length);
+            for (int u = 0; u < usernames.length; u++) {
+                out.writeUTF(usernames[u]);
+                out.writeInt(items[u].length);
+                for (long item : items[u]) {
+                    out.writeLong(item);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the pre-generated packed items for a user.
+     *
+     * @param username the username
+     * @return the user's packed items, or null if the user is not part of the dataset
+     */
+    public long[] getItems(String username) {
+        Integer i = index.get(username);
+        return i != null ? items[i] : null;
+    }
+
+    public ScheduleGenerator getGenerator() {
+        return generator;
+    }
+
+    public int getUserCount() {
+        return usernames.length;
+    }
+
+    public long getItemCount() {
+        long count = 0;
+        for (long[] userItems : items) {
+            count += userItems.length;
+        }
+        return count;
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,466 @@
+package com.example.api.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import com.example.api.exception.TaskNotFoundException;
+import com.example.api.model.Task;
+import com.example.api.model.TaskBoard;
+import com.example.api.model.TaskColumn;
+import com.example.api.model.TaskMove;
+import com.example.api.model.TaskPriority;
+import com.example.api.model.TaskStatus;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+/**
+ * Service for managing users' Kanban tasks.
+ * Each user has an in-memory board indexed by status column, assignee and
+ * due date, so loading a board or filtering tasks is a few index lookups
+ * rather than a scan of every task.
+ *
+ * Invalid input is reported with IllegalArgumentException and unknown task
+ * IDs with TaskNotFoundException.
+ */
+@ApplicationScoped
+public class TaskService {
+
+    private static final Logger LOGGER = Logger.getLogger(TaskService.class.getName());
+
+    private static final int MAX_TITLE_LENGTH = 200;
+
+    @Inject
+    @ConfigProperty(name = "tasks.move.max", defaultValue = "500")
+    private int maxMoves;
+
+    private final Map<String, Board> boards = new ConcurrentHashMap<>();
+
+    /**
+     * Get the user's board grouped by status column.
+     *
+     * @param owner    the board owner
+     * @param assignee optional assignee name to restrict the board to
+     * @return the board with one column per status, in board order
+     */
+    public TaskBoard getBoard(String owner, String assignee) {
+        Board board = board(owner);
+        board.lock.readLock().lock();
+        try {
+            // Filtered boards walk only the assignee's cards, then restore column order
+            Map<TaskStatus, List<String>> assigned = assignee != null ? board.assignedByStatus(assignee) : null;
+            List<TaskColumn> columns = new ArrayList<>(TaskStatus.values().length);
+
+            for (TaskStatus status : TaskStatus.values()) {
+                Collection<String> ids = assigned != null
+                    ? assigned.getOrDefault(status, List.of())
+                    : board.byStatus.get(status);
+                List<Task> tasks = new ArrayList<>(ids.size());
+                board.copyInto(ids, tasks);
+                columns.add(new TaskColumn(status.getValue(), tasks));
+            }
+
+            return new TaskBoard(owner, columns);
+
+        } finally {
+            board.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find tasks matching all given filters. Candidates are taken from the
+     * most selective index and then checked against the remaining filters.
+     *
+     * @param owner    the board owner
+     * @param status   optional status filter
+     * @param assignee optional assignee name filter
+     * @param dueFrom  optional inclusive lower bound on due date (YYYY-MM-DD)
+     * @param dueTo    optional inclusive upper bound on due date (YYYY-MM-DD)
+     * @return matching tasks
+     */
+    public List<Task> findTasks(String owner, String status, String assignee, String dueFrom, String dueTo) {
+        TaskStatus statusFilter = status != null ? TaskStatus.fromValue(status) : null;
+        LocalDate from = parseDate(dueFrom, "dueFrom");
+        LocalDate to = parseDate(dueTo, "dueTo");
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("dueFrom must not be after dueTo");
+        }
+
+        Board board = board(owner);
+        board.lock.readLock().lock();
+        try {
+            Collection<String> candidates = board.tasks.keySet();
+
+            if (statusFilter != null) {
+                candidates = smaller(candidates, board.byStatus.get(statusFilter));
+            }
+            if (assignee != null) {
+                candidates = smaller(candidates, board.byAssignee.getOrDefault(assignee, Set.of()));
+            }
+            if (from != null || to != null) {
+                List<String> due = new ArrayList<>();
+                for (Set<String> ids : board.dueRange(from, to).values()) {
+                    due.addAll(ids);
+                }
+                candidates = smaller(candidates, due);
+            }
+
+            List<Task> result = new ArrayList<>();
+            for (String id : candidates) {
+                Task task = board.tasks.get(id);
+                if (matches(task, statusFilter, assignee, from, to)) {
+                    result.add(new Task(task));
+                }
+            }
+            return result;
+
+        } finally {
+            board.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Get a single task.
+     *
+     * @param owner the board owner
+     * @param id    the task ID
+     * @return the task, or empty if it does not exist
+     */
+    public Optional<Task> getTask(String owner, String id) {
+        Board board = board(owner);
+        board.lock.readLock().lock();
+        try {
+            Task task = board.tasks.get(id);
+            return task != null ? Optional.of(new Task(task)) : Optional.empty();
+        } finally {
+            board.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Create a task. Status defaults to "todo" and priority to "medium".
+     *
+     * @param owner the board owner
+     * @param input the task fields
+     * @return the created task
+     */
+    public Task createTask(String owner, Task input) {
+        Task task = validated(input);
+        String now = Instant.now().toString();
+        task.setId(UUID.randomUUID().toString());
+        task.setCreatedAt(now);
+        task.setUpdatedAt(now);
+
+        Board board = board(owner);
+        board.lock.writeLock().lock();
+        try {
+            board.tasks.put(task.getId(), task);
+            board.index(task);
+        } finally {
+            board.lock.writeLock().unlock();
+        }
+
+        LOGGER.log(Level.INFO, "Created task {0} for user: {1}", new Object[]{task.getId(), owner});
+        return new Task(task);
+    }
+
+    /**
+     * Replace the fields of an existing task, keeping its ID and creation time.
+     *
+     * @param owner the board owner
+     * @param id    the task ID
+     * @param input the new task fields
+     * @return the updated task, or empty if it does not exist
+     */
+    public Optional<Task> updateTask(String owner, String id, Task input) {
+        Task task = validated(input);
+
+        Board board = board(owner);
+        board.lock.writeLock().lock();
+        try {
+            Task existing = board.tasks.get(id);
+            if (existing == null) {
+                return Optional.empty();
+            }
+
+            task.setId(id);
+            task.setCreatedAt(existing.getCreatedAt());
+            task.setUpdatedAt(Instant.now().toString());
+
+            board.unindex(existing);
+            board.tasks.put(id, task);
+            board.index(task);
+
+            LOGGER.log(Level.INFO, "Updated task {0} for user: {1}", new Object[]{id, owner});
+            return Optional.of(new Task(task));
+
+        } finally {
+            board.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Delete a task.
+     *
+     * @param owner the board owner
+     * @param id    the task ID
+     * @return true if the task existed
+     */
+    public boolean deleteTask(String owner, String id) {
+        Board board = board(owner);
+        board.lock.writeLock().lock();
+        try {
+            Task existing = board.tasks.remove(id);
+            if (existing == null) {
+                return false;
+            }
+            board.unindex(existing);
+
+            LOGGER.log(Level.INFO, "Deleted task {0} for user: {1}", new Object[]{id, owner});
+            return true;
+
+        } finally {
+            board.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Move many cards between columns in one atomic batch. All moves are
+     * validated before any is applied, so either every card moves or none does.
+     * Moved cards are appended to the end of their target column.
+     *
+     * @param owner the board owner
+     * @param moves the moves to apply
+     * @return the moved tasks, in request order
+     * @throws IllegalArgumentException if the batch is empty, too large or has an invalid status
+     * @throws TaskNotFoundException    if any task ID does not exist
+     */
+    public List<Task> moveTasks(String owner, List<TaskMove> moves) {
+        if (moves == null || moves.isEmpty()) {
+            throw new IllegalArgumentException("At least one move is required");
+        }
+        if (moves.size() > maxMoves) {
+            throw new IllegalArgumentException("At most " + maxMoves + " moves are allowed per request");
+        }
+
+        Map<String, TaskStatus> targets = new LinkedHashMap<>();
+        for (TaskMove move : moves) {
+            if (move == null || move.getId() == null) {
+                throw new IllegalArgumentException("Every move requires a task id");
+            }
+            targets.put(move.getId(), TaskStatus.fromValue(move.getStatus()));
+        }
+
+        Board board = board(owner);
+        board.lock.writeLock().lock();
+        try {
+            List<String> missing = new ArrayList<>();
+            for (String id : targets.keySet()) {
+                if (!board.tasks.containsKey(id)) {
+                    missing.add(id);
+                }
+            }
+            if (!missing.isEmpty()) {
+                throw new TaskNotFoundException(missing);
+            }
+
+            String now = Instant.now().toString();
+            List<Task> moved = new ArrayList<>(targets.size());
+            for (Map.Entry<String, TaskStatus> target : targets.entrySet()) {
+                Task task = board.tasks.get(target.getKey());
+                board.byStatus.get(TaskStatus.fromValue(task.getStatus())).remove(task.getId());
+                board.addToColumn(target.getValue(), task.getId());
+                task.setStatus(target.getValue().getValue());
+                task.setUpdatedAt(now);
+                moved.add(new Task(task));
+            }
+
+            LOGGER.log(Level.INFO, "Moved {0} tasks for user: {1}", new Object[]{moved.size(), owner});
+            return moved;
+
+        } finally {
+            board.lock.writeLock().unlock();
+        }
+    }
+
+    private Board board(String owner) {
+        return boards.computeIfAbsent(owner, key -> new Board());
+    }
+
+    /**
+     * Validate input and return a normalized copy with defaults applied.
+     */
+    private static Task validated(Task input) {
+        if (input == null) {
+            throw new IllegalArgumentException("Task body is required");
+        }
+        if (input.getTitle() == null || input.getTitle().isBlank()) {
+            throw new IllegalArgumentException("Task title is required");
+        }
+        if (input.getTitle().length() > MAX_TITLE_LENGTH) {
+            throw new IllegalArgumentException("Task title must not exceed " + MAX_TITLE_LENGTH + " characters");
+        }
+        if (input.getAssignee() != null
+                && (input.getAssignee().getName() == null || input.getAssignee().getName().isBlank())) {
+            throw new IllegalArgumentException("Assignee name is required");
+        }
+
+        Task task = new Task(input);
+        task.setStatus(input.getStatus() != null
+            ? TaskStatus.fromValue(input.getStatus()).getValue()
+            : TaskStatus.TODO.getValue());
+        task.setPriority(input.getPriority() != null
+            ? TaskPriority.fromValue(input.getPriority()).getValue()
+            : TaskPriority.MEDIUM.getValue());
+        parseDate(task.getDueDate(), "dueDate");
+        return task;
+    }
+
+    private static LocalDate parseDate(String value, String name) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    private static boolean matches(Task task, TaskStatus status, String assignee, LocalDate from, LocalDate to) {
+        if (status != null && !status.getValue().equals(task.getStatus())) {
+            return false;
+        }
+        if (assignee != null && (task.getAssignee() == null || !assignee.equals(task.getAssignee().getName()))) {
+            return false;
+        }
+        if (from != null || to != null) {
+            if (task.getDueDate() == null) {
+                return false;
+            }
+            LocalDate due = LocalDate.parse(task.getDueDate());
+            return (from == null || !due.isBefore(from)) && (to == null || !due.isAfter(to));
+        }
+        return true;
+    }
+
+    private static Collection<String> smaller(Collection<String> a, Collection<String> b) {
+        return b.size() < a.size() ? b : a;
+    }
+
+    /**
+     * A single user's tasks and their secondary indexes, guarded by one lock.
+     * Each card records the sequence number it was given when it last entered
+     * its column, so column order can be rebuilt for a subset of cards.
+     */
+    private static final class Board {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+        private final Map<String, Task> tasks = new LinkedHashMap<>();
+        private final Map<TaskStatus, Set<String>> byStatus = new EnumMap<>(TaskStatus.class);
+        private final Map<String, Set<String>> byAssignee = new HashMap<>();
+        private final NavigableMap<LocalDate, Set<String>> byDueDate = new TreeMap<>();
+        private final Map<String, Long> columnSequence = new HashMap<>();
+        private long nextSequence;
+
+        private Board() {
+            for (TaskStatus status : TaskStatus.values()) {
+                byStatus.put(status, new LinkedHashSet<>());
+            }
+        }
+
+        private void index(Task task) {
+            addToColumn(TaskStatus.fromValue(task.getStatus()), task.getId());
+            if (task.getAssignee() != null) {
+                byAssignee.computeIfAbsent(task.getAssignee().getName(), key -> new LinkedHashSet<>())
+                    .add(task.getId());
+            }
+            if (task.getDueDate() != null) {
+                byDueDate.computeIfAbsent(LocalDate.parse(task.getDueDate()), key -> new LinkedHashSet<>())
+                    .add(task.getId());
+            }
+        }
+
+        private void unindex(Task task) {
+            byStatus.get(TaskStatus.fromValue(task.getStatus())).remove(task.getId());
+            columnSequence.remove(task.getId());
+            if (task.getAssignee() != null) {
+                remove(byAssignee, task.getAssignee().getName(), task.getId());
+            }
+            if (task.getDueDate() != null) {
+                remove(byDueDate, LocalDate.parse(task.getDueDate()), task.getId());
+            }
+        }
+
+        /**
+         * Append a card to the end of a column. The card must not be in any column.
+         */
+        private void addToColumn(TaskStatus status, String id) {
+            byStatus.get(status).add(id);
+            columnSequence.put(id, nextSequence++);
+        }
+
+        /**
+         * Group an assignee's cards by column, each group in column order.
+         */
+        private Map<TaskStatus, List<String>> assignedByStatus(String assignee) {
+            Map<TaskStatus, List<String>> grouped = new EnumMap<>(TaskStatus.class);
+            for (String id : byAssignee.getOrDefault(assignee, Set.of())) {
+                grouped.computeIfAbsent(TaskStatus.fromValue(tasks.get(id).getStatus()), key -> new ArrayList<>())
+                    .add(id);
+            }
+            for (List<String> ids : grouped.values()) {
+                ids.sort(Comparator.comparingLong(columnSequence::get));
+            }
+            return grouped;
+        }
+
+        private NavigableMap<LocalDate, Set<String>> dueRange(LocalDate from, LocalDate to) {
+            if (from != null && to != null) {
+                return byDueDate.subMap(from, true, to, true);
+            }
+            return from != null ? byDueDate.tailMap(from, true) : byDueDate.headMap(to, true);
+        }
+
+        private void copyInto(Collection<String> ids, List<Task> target) {
+            for (String id : ids) {
+                target.add(new Task(tasks.get(id)));
+            }
+        }
+
+        private static <K> void remove(Map<K, Set<String>> index, K key, String id) {
+            Set<String> ids = index.get(key);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    index.remove(key);
+                }
+            }
+        }
+    }
+}
+
+// Made with Bob
@@ -0,0 +1,26 @@
+package com.example.api.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class GlobalExceptionMapperTest {
+
+    @Test
+    void feedTokensAreRedacted() {
+        assertEquals("api/v1/calendar/feed/{token}.ics",
+            GlobalExceptionMapper.redact("api/v1/calendar/feed/s3cr3t-t0ken.ics"));
+        assertEquals("/api/v1/calendar/feed/{token}",
+            GlobalExceptionMapper.redact("/api/v1/calendar/feed/s3cr3t-t0ken"));
+        assertEquals("/api/v1/calendar/feed/{token}/extra",
+            GlobalExceptionMapper.redact("/api/v1/calendar/feed/s3cr3t-t0ken/extra"));
+    }
+
+    @Test
+    void otherPathsAreUnchanged() {
+        assertEquals("/api/v1/calendar/feed.ics", GlobalExceptionMapper.redact("/api/v1/calendar/feed.ics"));
+        assertEquals("/api/v1/calendar/feed-token", GlobalExceptionMapper.redact("/api/v1/calendar/feed-token"));
+        assertEquals("/api/v1/schedule", GlobalExceptionMapper.redact("/api/v1/schedule"));
+    }
+
+}
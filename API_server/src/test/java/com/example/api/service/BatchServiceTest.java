@@ -0,0 +1,219 @@
+package com.example.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.api.model.BatchOperation;
+import com.example.api.model.BatchResponse;
+import com.example.api.model.BatchResult;
+import com.example.api.model.ErrorResponse;
+import com.example.api.model.Schedule;
+
+import jakarta.enterprise.concurrent.ManagedExecutorService;
+import jakarta.json.Json;
+import jakarta.json.JsonValue;
+
+class BatchServiceTest {
+
+    private static final String USER = "alice";
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(4);
+
+    private BatchService batchService;
+    private ScheduleService scheduleService;
+    private TaskService taskService;
+    private ManagedExecutorService executor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws ReflectiveOperationException {
+        scheduleService = mock(ScheduleService.class);
+        when(scheduleService.generateSchedule(anyString(), any(), any()))
+            .thenAnswer(invocation -> new Schedule(invocation.getArgument(0), List.of()));
+
+        taskService = new TaskService();
+        set(taskService, "maxMoves", 500);
+
+        executor = mock(ManagedExecutorService.class);
+        when(executor.supplyAsync(any(Supplier.class)))
+            .thenAnswer(invocation -> CompletableFuture.supplyAsync(invocation.getArgument(0), pool));
+
+        batchService = new BatchService();
+        set(batchService, "scheduleService", scheduleService);
+        set(batchService, "taskService", taskService);
+        set(batchService, "healthService", new HealthService());
+        set(batchService, "executor", executor);
+        set(batchService, "maxOperations", 20);
+        set(batchService, "maxParallel", 2);
+        set(batchService, "timeoutMillis", 5000L);
+        batchService.validateLimits();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchService.close();
+        pool.shutdownNow();
+    }
+
+    @Test
+    void readsAfterWriteSeeItAndResultsKeepRequestOrder() {
+        List<BatchResult> results = execute(
+            op("create-a", "POST", "/api/v1/tasks", task("A")),
+            op("list-1", "GET", "/api/v1/tasks", null),
+            op("board", "GET", "/api/v1/tasks/board", null),
+            op("schedule", "GET", "/api/v1/schedule?from=2026-01-28", null),
+            op("health", "GET", "/api/v1/hello", null),
+            op("create-b", "POST", "/api/v1/tasks", task("B")),
+            op("list-2", "GET", "/api/v1/tasks", null));
+
+        assertEquals(List.of("create-a", "list-1", "board", "schedule", "health", "create-b", "list-2"),
+            results.stream().map(BatchResult::getId).collect(Collectors.toList()));
+        assertEquals(List.of(201, 200, 200, 200, 200, 201, 200), statuses(results));
+        assertEquals(1, ((List<?>) results.get(1).getBody()).size());
+        assertEquals(2, ((List<?>) results.get(6).getBody()).size());
+        assertEquals(USER, ((Schedule) results.get(3).getBody()).getUser());
+    }
+
+    @Test
+    void missedDeadlineReturns504AndStopsSubmittingWork() throws ReflectiveOperationException {
+        set(batchService, "maxParallel", 1);
+        set(batchService, "timeoutMillis", 100L);
+        when(scheduleService.generateSchedule(anyString(), any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(500);
+            return new Schedule(USER, List.of());
+        });
+
+        List<BatchResult> results = execute(
+            op("1", "GET", "/api/v1/schedule", null),
+            op("2", "GET", "/api/v1/schedule", null),
+            op("3", "GET", "/api/v1/schedule", null),
+            op("write", "POST", "/api/v1/tasks", task("Late")));
+
+        assertEquals(List.of(504, 504, 504, 504), statuses(results));
+        assertEquals("TIMEOUT", error(results.get(0)).getError());
+        // Only the first wave reached the executor, and the write never ran
+        verify(executor, times(1)).supplyAsync(any());
+        assertTrue(taskService.findTasks(USER, null, null, null, null).isEmpty());
+    }
+
+    @Test
+    void malformedOperationsFailIndividually() {
+        JsonValue wrongType = Json.createObjectBuilder()
+            .add("title", Json.createObjectBuilder().add("text", "x"))
+            .build();
+
+        List<BatchResult> results = execute(
+            op("create", "POST", "/api/v1/tasks", task("Kept")),
+            op("bad-escape-write", "POST", "/api/v1/tasks?x=%ZZ", task("Lost")),
+            op("bad-escape-read", "GET", "/api/v1/tasks?status=%ZZ", null),
+            op("wrong-type", "POST", "/api/v1/tasks", wrongType),
+            op("no-body", "POST", "/api/v1/tasks", null),
+            op("no-method", null, "/api/v1/tasks", null),
+            op("unknown", "GET", "/api/v1/nothing", null),
+            op("outside", "GET", "/health", null),
+            op("not-allowed", "DELETE", "/api/v1/hello", null),
+            op("bad-status", "GET", "/api/v1/tasks?status=archived", null),
+            op("bad-date", "GET", "/api/v1/schedule?from=tomorrow", null));
+
+        assertEquals(List.of(201, 400, 400, 400, 400, 400, 404, 404, 405, 400, 400), statuses(results));
+        assertEquals(1, taskService.findTasks(USER, null, null, null, null).size());
+    }
+
+    @Test
+    void readsInParallelWaveFailIndividually() {
+        List<BatchResult> results = execute(
+            op("ok", "GET", "/api/v1/tasks", null),
+            op("bad-escape", "GET", "/api/v1/tasks?status=%ZZ", null),
+            op("ok-too", "GET", "/api/v1/hello", null));
+
+        assertEquals(List.of(200, 400, 200), statuses(results));
+    }
+
+    @Test
+    void unknownTaskInMoveReportsIds() {
+        JsonValue moves = Json.createObjectBuilder()
+            .add("moves", Json.createArrayBuilder()
+                .add(Json.createObjectBuilder().add("id", "missing").add("status", "done")))
+            .build();
+
+        BatchResult result = execute(op("move", "POST", "/api/v1/tasks/move", moves)).get(0);
+
+        assertEquals(404, result.getStatus());
+        assertEquals(Map.of("ids", List.of("missing")), error(result).getDetails());
+    }
+
+    @Test
+    void oversizedOrEmptyBatchIsRejected() {
+        List<BatchOperation> operations = new ArrayList<>();
+        for (int i = 0; i < 21; i++) {
+            operations.add(op(String.valueOf(i), "GET", "/api/v1/hello", null));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> batchService.execute(USER, operations));
+        assertThrows(IllegalArgumentException.class, () -> batchService.execute(USER, List.of()));
+    }
+
+    @Test
+    void invalidLimitsAreRaisedToOne() throws ReflectiveOperationException {
+        set(batchService, "maxParallel", 0);
+        set(batchService, "maxOperations", -1);
+        set(batchService, "timeoutMillis", 0L);
+        batchService.validateLimits();
+
+        // Would loop forever with a parallelism of zero
+        BatchResponse response = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> batchService.execute(
+            USER, List.of(op("only", "GET", "/api/v1/hello", null))));
+        assertEquals(1, response.getResults().size());
+        assertThrows(IllegalArgumentException.class, () -> batchService.execute(USER, List.of(
+            op("1", "GET", "/api/v1/hello", null), op("2", "GET", "/api/v1/hello", null))));
+    }
+
+    private List<BatchResult> execute(BatchOperation... operations) {
+        return batchService.execute(USER, List.of(operations)).getResults();
+    }
+
+    private static BatchOperation op(String id, String method, String path, JsonValue body) {
+        return new BatchOperation(id, method, path, body);
+    }
+
+    private static JsonValue task(String title) {
+        return Json.createObjectBuilder().add("title", title).build();
+    }
+
+    private static List<Integer> statuses(List<BatchResult> results) {
+        return results.stream().map(BatchResult::getStatus).collect(Collectors.toList());
+    }
+
+    private static ErrorResponse error(BatchResult result) {
+        return (ErrorResponse) result.getBody();
+    }
+
+    private static void set(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CalendarFeedServiceTest {
+
+    private CalendarFeedService feedService;
+
+    @BeforeEach
+    void setUp() throws ReflectiveOperationException {
+        ScheduleGenerator generator = new ScheduleGenerator(
+            42L, LocalDate.of(2024, 1, 1), 8, 5, 10, ScheduleService.DEFAULT_DESCRIPTIONS);
+        ScheduleService scheduleService = mock(ScheduleService.class);
+        when(scheduleService.generateSchedule(anyString()))
+            .thenAnswer(invocation -> generator.generate(invocation.getArgument(0)));
+
+        feedService = new CalendarFeedService();
+        set("scheduleService", scheduleService);
+        set("maxCachedUsers", 2);
+    }
+
+    @Test
+    void unchangedScheduleReusesCachedFeed() {
+        CalendarFeedService.Feed first = feedService.getFeed("alice");
+
+        assertSame(first, feedService.getFeed("alice"));
+    }
+
+    @Test
+    void leastRecentlyRequestedFeedIsEvicted() {
+        CalendarFeedService.Feed alice = feedService.getFeed("alice");
+        CalendarFeedService.Feed bob = feedService.getFeed("bob");
+
+        // alice is now the most recently requested, so carol displaces bob
+        assertSame(alice, feedService.getFeed("alice"));
+        feedService.getFeed("carol");
+
+        assertSame(alice, feedService.getFeed("alice"));
+        CalendarFeedService.Feed rebuilt = feedService.getFeed("bob");
+        assertNotSame(bob, rebuilt);
+        assertEquals(bob.getETag(), rebuilt.getETag());
+    }
+
+    private void set(String name, Object value) throws ReflectiveOperationException {
+        Field field = CalendarFeedService.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(feedService, value);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.api.model.ScheduleItem;
+
+class ScheduleGeneratorTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    private static ScheduleGenerator generator(long seed, LocalDate startDate) {
+        return new ScheduleGenerator(seed, startDate, 8, 5, 10, ScheduleService.DEFAULT_DESCRIPTIONS);
+    }
+
+    @Test
+    void sameSeedAndUsernameGiveSameItemsAcrossThreads() throws Exception {
+        ScheduleGenerator shared = generator(42L, START);
+        long[] expected = generator(42L, START).generatePacked("alice");
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<long[]>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                // Alternate between the shared instance and fresh ones
+                Callable<long[]> task = i % 2 == 0
+                    ? () -> shared.generatePacked("alice")
+                    : () -> generator(42L, START).generatePacked("alice");
+                results.add(pool.submit(task));
+            }
+            for (Future<long[]> result : results) {
+                assertArrayEquals(expected, result.get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void differentUsersOrSeedsGiveDifferentItems() {
+        ScheduleGenerator generator = generator(42L, START);
+
+        assertFalse(Arrays.equals(generator.generatePacked("alice"), generator.generatePacked("bob")));
+        assertFalse(Arrays.equals(generator.generatePacked("alice"),
+            generator(43L, START).generatePacked("alice")));
+    }
+
+    @Test
+    void itemsStayWithinSettingsAndAreSorted() {
+        ScheduleGenerator generator = generator(42L, START);
+
+        for (int u = 0; u < 1000; u++) {
+            List<ScheduleItem> items = generator.toItems(generator.generatePacked("user-" + u));
+
+            assertTrue(items.size() >= 5 && items.size() <= 10);
+            String previous = "";
+            for (ScheduleItem item : items) {
+                LocalDate date = LocalDate.parse(item.getDate());
+                assertFalse(date.isBefore(START));
+                assertTrue(date.isBefore(START.plusDays(8)));
+                assertTrue(item.getTime().compareTo("08:00") >= 0 && item.getTime().compareTo("18:30") <= 0);
+                assertTrue(ScheduleService.DEFAULT_DESCRIPTIONS.contains(item.getDescription()));
+
+                String key = item.getDate() + " " + item.getTime();
+                assertTrue(key.compareTo(previous) >= 0);
+                previous = key;
+            }
+        }
+    }
+
+    @Test
+    void startDateOnlyShiftsDates() {
+        ScheduleGenerator first = generator(42L, START);
+        ScheduleGenerator later = generator(42L, START.plusDays(3));
+
+        assertTrue(first.hasSameSettings(later));
+        assertArrayEquals(first.generatePacked("alice"), later.generatePacked("alice"));
+
+        List<ScheduleItem> shifted = later.toItems(first.generatePacked("alice"));
+        List<ScheduleItem> original = first.toItems(first.generatePacked("alice"));
+        for (int i = 0; i < original.size(); i++) {
+            assertEquals(LocalDate.parse(original.get(i).getDate()).plusDays(3).toString(), shifted.get(i).getDate());
+            assertEquals(original.get(i).getTime(), shifted.get(i).getTime());
+            assertEquals(original.get(i).getDescription(), shifted.get(i).getDescription());
+        }
+    }
+
+    @Test
+    void settingsMismatchIsDetected() {
+        ScheduleGenerator generator = generator(42L, START);
+
+        assertFalse(generator.hasSameSettings(generator(7L, START)));
+        assertFalse(generator.hasSameSettings(
+            new ScheduleGenerator(42L, START, 9, 5, 10, ScheduleService.DEFAULT_DESCRIPTIONS)));
+        assertFalse(generator.hasSameSettings(
+            new ScheduleGenerator(42L, START, 8, 5, 10, List.of("Standup"))));
+        assertFalse(generator.hasSameSettings(null));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.eclipse.microprofile.config.Config;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.api.model.Schedule;
+import com.example.api.model.ScheduleItem;
+
+class ScheduleServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    private ScheduleService scheduleService;
+
+    @BeforeEach
+    void setUp() throws ReflectiveOperationException {
+        // Unset keys fall back to the defaults; pin the start date so results are stable
+        Config config = mock(Config.class);
+        when(config.getOptionalValue("schedule.start.date", String.class)).thenReturn(Optional.of(START.toString()));
+
+        scheduleService = new ScheduleService();
+        Field field = ScheduleService.class.getDeclaredField("config");
+        field.setAccessible(true);
+        field.set(scheduleService, config);
+    }
+
+    @Test
+    void rangeKeepsOnlyItemsBetweenFromAndTo() {
+        LocalDate from = START.plusDays(2);
+        LocalDate to = START.plusDays(4);
+
+        Schedule full = scheduleService.generateSchedule("alice");
+        Schedule range = scheduleService.generateSchedule("alice", from, to);
+
+        long expected = full.getSchedule().stream()
+            .filter(item -> !LocalDate.parse(item.getDate()).isBefore(from)
+                && !LocalDate.parse(item.getDate()).isAfter(to))
+            .count();
+        assertEquals(expected, range.getSchedule().size());
+        for (ScheduleItem item : range.getSchedule()) {
+            LocalDate date = LocalDate.parse(item.getDate());
+            assertFalse(date.isBefore(from));
+            assertFalse(date.isAfter(to));
+        }
+    }
+
+    @Test
+    void singleDayRangeIsAllowed() {
+        Schedule day = scheduleService.generateSchedule("alice", START, START);
+
+        assertTrue(day.getSchedule().stream().allMatch(item -> item.getDate().equals(START.toString())));
+    }
+
+    @Test
+    void fromAfterToIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> scheduleService.generateSchedule("alice", START.plusDays(1), START));
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SyntheticDatasetTest {
+
+    private static final ScheduleGenerator GENERATOR = new ScheduleGenerator(
+        42L, LocalDate.of(2024, 1, 1), 8, 5, 10, List.of("Standup", "Review", "Planning été"));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void generatedItemsMatchGenerator() {
+        SyntheticDataset dataset = SyntheticDataset.generate(GENERATOR, 1000, "user-");
+
+        assertEquals(1000, dataset.getUserCount());
+        for (int u = 0; u < 1000; u++) {
+            assertArrayEquals(GENERATOR.generatePacked("user-" + u), dataset.getItems("user-" + u));
+        }
+        assertNull(dataset.getItems("user-1000"));
+    }
+
+    @Test
+    void writeToAndReadFromRoundTrip() throws IOException {
+        SyntheticDataset written = SyntheticDataset.generate(GENERATOR, 500, "load-");
+        Path file = tempDir.resolve("schedules.dat");
+        written.writeTo(file);
+
+        SyntheticDataset read = SyntheticDataset.readFrom(file);
+
+        ScheduleGenerator settings = read.getGenerator();
+        assertEquals(GENERATOR.getSeed(), settings.getSeed());
+        assertEquals(GENERATOR.getStartDate(), settings.getStartDate());
+        assertEquals(GENERATOR.getSpanDays(), settings.getSpanDays());
+        assertEquals(GENERATOR.getMinItems(), settings.getMinItems());
+        assertEquals(GENERATOR.getMaxItems(), settings.getMaxItems());
+        assertEquals(GENERATOR.getDescriptions(), settings.getDescriptions());
+        assertTrue(GENERATOR.hasSameSettings(settings));
+
+        assertEquals(written.getUserCount(), read.getUserCount());
+        assertEquals(written.getItemCount(), read.getItemCount());
+        for (int u = 0; u < 500; u++) {
+            assertArrayEquals(written.getItems("load-" + u), read.getItems("load-" + u));
+        }
+
+        // Writing the loaded dataset again gives an identical file
+        Path copy = tempDir.resolve("copy.dat");
+        read.writeTo(copy);
+        assertArrayEquals(Files.readAllBytes(file), Files.readAllBytes(copy));
+    }
+
+    @Test
+    void writeToReplacesExistingFileWithoutLeavingTempFiles() throws IOException {
+        Path file = tempDir.resolve("schedules.dat");
+        SyntheticDataset.generate(GENERATOR, 10, "old-").writeTo(file);
+
+        SyntheticDataset.generate(GENERATOR, 20, "new-").writeTo(file);
+
+        assertEquals(20, SyntheticDataset.readFrom(file).getUserCount());
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(List.of(file), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void readFromRejectsTruncatedFiles() throws IOException {
+        Path file = tempDir.resolve("schedules.dat");
+        SyntheticDataset.generate(GENERATOR, 100, "user-").writeTo(file);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(IOException.class, () -> SyntheticDataset.readFrom(file));
+    }
+
+    @Test
+    void readFromRejectsOtherFiles() throws IOException {
+        Path file = tempDir.resolve("other.dat");
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertThrows(IOException.class, () -> SyntheticDataset.readFrom(file));
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.api.exception.TaskNotFoundException;
+import com.example.api.model.Task;
+import com.example.api.model.TaskAssignee;
+import com.example.api.model.TaskColumn;
+import com.example.api.model.TaskMove;
+import com.example.api.model.TaskStatus;
+
+class TaskServiceTest {
+
+    private static final String OWNER = "alice";
+
+    private TaskService taskService;
+
+    @BeforeEach
+    void setUp() throws ReflectiveOperationException {
+        taskService = new TaskService();
+        Field maxMoves = TaskService.class.getDeclaredField("maxMoves");
+        maxMoves.setAccessible(true);
+        maxMoves.setInt(taskService, 500);
+    }
+
+    @Test
+    void unknownIdLeavesEveryCardAndIndexUnchanged() {
+        List<Task> tasks = createTasks(12);
+        String before = snapshot();
+
+        List<TaskMove> moves = new ArrayList<>();
+        for (Task task : tasks) {
+            moves.add(new TaskMove(task.getId(), "done"));
+        }
+        moves.add(6, new TaskMove("no-such-task", "review"));
+
+        TaskNotFoundException e = assertThrows(TaskNotFoundException.class,
+            () -> taskService.moveTasks(OWNER, moves));
+
+        assertEquals(List.of("no-such-task"), e.getIds());
+        assertEquals(before, snapshot());
+    }
+
+    @Test
+    void invalidStatusLeavesEveryCardAndIndexUnchanged() {
+        List<Task> tasks = createTasks(4);
+        String before = snapshot();
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.moveTasks(OWNER, List.of(
+            new TaskMove(tasks.get(0).getId(), "done"),
+            new TaskMove(tasks.get(1).getId(), "archived"))));
+
+        assertEquals(before, snapshot());
+    }
+
+    @Test
+    void repeatedMovesKeepStatusIndexConsistent() {
+        List<Task> tasks = createTasks(30);
+        Map<String, String> expected = new HashMap<>();
+        for (Task task : tasks) {
+            expected.put(task.getId(), task.getStatus());
+        }
+
+        Random random = new Random(7);
+        TaskStatus[] statuses = TaskStatus.values();
+        for (int round = 0; round < 200; round++) {
+            List<TaskMove> moves = new ArrayList<>();
+            for (int i = 0; i < 1 + random.nextInt(5); i++) {
+                Task task = tasks.get(random.nextInt(tasks.size()));
+                String status = statuses[random.nextInt(statuses.length)].getValue();
+                moves.add(new TaskMove(task.getId(), status));
+            }
+            taskService.moveTasks(OWNER, moves);
+            for (TaskMove move : moves) {
+                expected.put(move.getId(), move.getStatus());
+            }
+
+            assertStatusIndexConsistent(expected);
+        }
+    }
+
+    @Test
+    void filteredBoardKeepsColumnOrder() {
+        List<Task> tasks = createTasks(12);
+
+        // Reverse the column order of bob's cards by moving them in reverse
+        List<TaskMove> moves = new ArrayList<>();
+        for (int i = tasks.size() - 1; i >= 0; i--) {
+            moves.add(new TaskMove(tasks.get(i).getId(), "review"));
+        }
+        taskService.moveTasks(OWNER, moves);
+
+        List<String> column = ids(column(taskService.getBoard(OWNER, null).getColumns(), "review"));
+        List<String> filtered = ids(column(taskService.getBoard(OWNER, "bob").getColumns(), "review"));
+
+        List<String> expected = column.stream().filter(filtered::contains).collect(Collectors.toList());
+        assertEquals(expected, filtered);
+    }
+
+    @Test
+    void filteredBoardsFollowColumnOrderAcrossEdits() {
+        List<Task> tasks = createTasks(24);
+        Random random = new Random(11);
+        TaskStatus[] statuses = TaskStatus.values();
+
+        for (int round = 0; round < 100; round++) {
+            Task task = tasks.get(random.nextInt(tasks.size()));
+            if (round % 10 == 0) {
+                // Updates re-append the card to the end of its column
+                Task input = new Task(task);
+                input.setTitle("Edited " + round);
+                taskService.updateTask(OWNER, task.getId(), input);
+            } else {
+                String status = statuses[random.nextInt(statuses.length)].getValue();
+                taskService.moveTasks(OWNER, List.of(new TaskMove(task.getId(), status)));
+            }
+
+            List<TaskColumn> full = taskService.getBoard(OWNER, null).getColumns();
+            for (String assignee : List.of("bob", "carol")) {
+                List<TaskColumn> filtered = taskService.getBoard(OWNER, assignee).getColumns();
+                for (int c = 0; c < full.size(); c++) {
+                    List<String> expected = full.get(c).getTasks().stream()
+                        .filter(t -> t.getAssignee() != null && assignee.equals(t.getAssignee().getName()))
+                        .map(Task::getId)
+                        .collect(Collectors.toList());
+                    assertEquals(expected, ids(filtered.get(c).getTasks()));
+                }
+            }
+        }
+    }
+
+    private void assertStatusIndexConsistent(Map<String, String> expected) {
+        int cards = 0;
+        for (TaskColumn column : taskService.getBoard(OWNER, null).getColumns()) {
+            for (Task task : column.getTasks()) {
+                assertEquals(column.getId(), task.getStatus());
+                assertEquals(expected.get(task.getId()), task.getStatus());
+                cards++;
+            }
+            assertEquals(column.getTasks().size(),
+                taskService.findTasks(OWNER, column.getId(), null, null, null).size());
+        }
+        assertEquals(expected.size(), cards);
+    }
+
+    private List<Task> createTasks(int count) {
+        String[] assignees = {"bob", "carol", null};
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Task input = new Task();
+            input.setTitle("Task " + i);
+            input.setStatus(TaskStatus.values()[i % TaskStatus.values().length].getValue());
+            if (assignees[i % assignees.length] != null) {
+                input.setAssignee(new TaskAssignee(assignees[i % assignees.length], null));
+            }
+            input.setDueDate(i % 2 == 0 ? "2024-03-" + String.format("%02d", 1 + i) : null);
+            tasks.add(taskService.createTask(OWNER, input));
+        }
+        return tasks;
+    }
+
+    /**
+     * Describe every card and every index as seen through the public API.
+     */
+    private String snapshot() {
+        StringBuilder out = new StringBuilder();
+        for (TaskColumn column : taskService.getBoard(OWNER, null).getColumns()) {
+            out.append(column.getId()).append(describe(column.getTasks())).append('\n');
+            out.append(" by status ").append(describe(taskService.findTasks(OWNER, column.getId(), null, null, null)))
+                .append('\n');
+        }
+        for (String assignee : List.of("bob", "carol")) {
+            out.append(assignee).append(describe(taskService.getBoard(OWNER, assignee).getColumns().stream()
+                .flatMap(column -> column.getTasks().stream()).collect(Collectors.toList()))).append('\n');
+            out.append(" by assignee ").append(describe(taskService.findTasks(OWNER, null, assignee, null, null)))
+                .append('\n');
+        }
+        out.append("due ").append(describe(taskService.findTasks(OWNER, null, null, "2024-03-01", "2024-03-31")));
+        return out.toString();
+    }
+
+    private static String describe(List<Task> tasks) {
+        return tasks.stream()
+            .map(task -> task.getId() + "@" + task.getStatus() + "@" + task.getUpdatedAt())
+            .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private static List<Task> column(List<TaskColumn> columns, String id) {
+        return columns.stream().filter(column -> column.getId().equals(id)).findFirst().orElseThrow().getTasks();
+    }
+
+    private static List<String> ids(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).collect(Collectors.toList());
+    }
+}